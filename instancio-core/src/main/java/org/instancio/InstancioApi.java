@@ -76,6 +76,72 @@ public interface InstancioApi<T> {
      */
     Stream<T> stream();
 
+    /**
+     * Creates an infinite parallel stream of distinct, fully populated objects.
+     * <p>
+     * Unlike {@link #stream()}, elements do not share a single source
+     * of randomness. Instead, the element at index {@code i} is generated
+     * using a seed derived from the model's seed and {@code i}.
+     * As a result, for a given seed, the stream produces the same
+     * elements in the same encounter order regardless of the number
+     * of threads used to generate them.
+     * <p>
+     * Example:
+     * <pre>{@code
+     *     List<Person> persons = Instancio.of(Person.class)
+     *         .withSeed(123)
+     *         .parallelStream()
+     *         .limit(1_000_000)
+     *         .collect(Collectors.toList());
+     * }</pre>
+     * <p>
+     * Since elements may be generated concurrently, user-supplied
+     * generators, suppliers, and {@code onComplete()} callbacks must be
+     * thread-safe. The model is built once for each thread generating
+     * elements and reused for subsequent elements. Therefore, state of
+     * generators specified via {@link #generate(TargetSelector, GeneratorSpecProvider)},
+     * such as {@code emit()}, carries over between elements generated
+     * by the same thread. Such generators should not be used with this method.
+     *
+     * @return an infinite parallel stream of distinct, populated objects
+     * @see #stream()
+     * @since 2.13.0
+     */
+    @ExperimentalApi
+    Stream<T> parallelStream();
+
+    /**
+     * Creates a stream of objects at indices {@code [fromInclusive, toExclusive)}
+     * of the stream returned by {@link #parallelStream()}.
+     * <p>
+     * Since the seed of each element is derived from the model's seed and
+     * the element's index, any range can be generated without generating
+     * the elements preceding it. For a given seed, the element at index
+     * {@code i} is the same as the element at index {@code i} of
+     * {@link #parallelStream()}. This allows a large data set to be
+     * generated in parts, for example, on different machines.
+     * <p>
+     * Example:
+     * <pre>{@code
+     *     // Elements 1,000,000 to 1,999,999 of the stream with seed 123
+     *     List<Person> persons = Instancio.of(Person.class)
+     *         .withSeed(123)
+     *         .stream(1_000_000, 2_000_000)
+     *         .collect(Collectors.toList());
+     * }</pre>
+     * <p>
+     * The returned stream is sequential, but can be converted to
+     * a parallel stream without affecting the results. See
+     * {@link #parallelStream()} for thread-safety considerations.
+     *
+     * @param fromInclusive index of the first element (inclusive)
+     * @param toExclusive   index of the last element (exclusive)
+     * @return a stream of {@code toExclusive - fromInclusive} objects
+     * @since 2.13.0
+     */
+    @ExperimentalApi
+    Stream<T> stream(long fromInclusive, long toExclusive);
+
     /**
      * Creates a model containing all the information for populating a class.
      * <p>
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+
+/**
+ * A setting that specifies the pseudorandom number generator
+ * used for generating values.
+ *
+ * <p>Each engine produces a different sequence of values for a given seed.
+ * Therefore, changing the engine will change the objects generated
+ * using a particular seed.
+ *
+ * @see Settings
+ * @see Keys#RANDOM_ENGINE
+ * @since 2.13.0
+ */
+@ExperimentalApi
+public enum RandomEngine {
+
+    /**
+     * Uses {@link java.util.Random} (default behaviour).
+     *
+     * <p>This engine should be used for reproducing objects
+     * generated with seeds using previous versions of Instancio.
+     */
+    JAVA_UTIL_RANDOM,
+
+    /**
+     * Uses {@link java.util.SplittableRandom}, which is faster than
+     * {@link java.util.Random} and is not synchronised.
+     */
+    SPLITTABLE_RANDOM,
+
+    /**
+     * Uses the xoroshiro128++ algorithm, a fast generator
+     * with a small state and good statistical quality.
+     */
+    XOROSHIRO_128_PLUS_PLUS
+}
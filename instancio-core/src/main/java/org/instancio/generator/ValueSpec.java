@@ -19,6 +19,7 @@ import org.instancio.Gen;
 import org.instancio.Instancio;
 import org.instancio.Model;
 import org.instancio.Random;
+import org.instancio.RandomEngine;
 import org.instancio.internal.RandomHelper;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.TypeUtils;
@@ -60,13 +61,23 @@ public interface ValueSpec<T> extends GeneratorSpec<T> {
      */
     @SuppressWarnings("unchecked")
     default T get() {
+        final Settings threadLocalSettings = ThreadLocalSettings.getInstance().get();
         final Settings settings = ObjectUtils.defaultIfNull(
-                ThreadLocalSettings.getInstance().get(),
-                Global::getPropertiesFileSettings);
+                threadLocalSettings, Global::getPropertiesFileSettings);
 
-        // Shorthand API does not support withSeed() method
+        // Thread-local settings, e.g. from @WithSettings, may not specify an engine.
+        // Note: a lambda is not used here to avoid adding a synthetic method to this interface
+        RandomEngine engine = settings.get(Keys.RANDOM_ENGINE);
+        if (engine == null) {
+            engine = Global.getPropertiesFileSettings().get(Keys.RANDOM_ENGINE);
+        }
+
+        // Shorthand API does not support withSeed() method.
+        // Only a seed from thread-local settings is explicit; the seed
+        // from the properties file is handled by the configured random
+        final Long settingsSeed = threadLocalSettings == null ? null : threadLocalSettings.get(Keys.SEED);
         final Random random = RandomHelper.resolveRandom(
-                settings.get(Keys.SEED), /* withSeed = */ null);
+                settingsSeed, /* withSeed = */ null, engine);
 
         return ((Generator<T>) this).generate(random);
     }
@@ -19,16 +19,22 @@ import org.instancio.GeneratorSpecProvider;
 import org.instancio.InstancioApi;
 import org.instancio.Model;
 import org.instancio.OnCompleteCallback;
+import org.instancio.RandomEngine;
 import org.instancio.Result;
 import org.instancio.TargetSelector;
 import org.instancio.TypeTokenSupplier;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorSpec;
 import org.instancio.internal.context.ModelContext;
+import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
+import org.instancio.support.Seeds;
 
 import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Supplier;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 public class ApiImpl<T> implements InstancioApi<T> {
@@ -183,6 +189,59 @@ public class ApiImpl<T> implements InstancioApi<T> {
         return Stream.generate(() -> new InstancioEngine(model).createRootObject());
     }
 
+    @Override
+    public Stream<T> parallelStream() {
+        return indexedStream(0, Long.MAX_VALUE).parallel();
+    }
+
+    @Override
+    public Stream<T> stream(final long fromInclusive, final long toExclusive) {
+        ApiValidator.isTrue(fromInclusive >= 0,
+                "Stream range start must not be negative: %s", fromInclusive);
+        ApiValidator.isTrue(fromInclusive <= toExclusive,
+                "Stream range start must be less than or equal to end: [%s, %s)", fromInclusive, toExclusive);
+        return indexedStream(fromInclusive, toExclusive);
+    }
+
+    private Stream<T> indexedStream(final long fromInclusive, final long toExclusive) {
+        final ModelContext<T> context = modelContextBuilder.build();
+        final long seed = context.getRandom().getSeed();
+        final RandomEngine engine = context.getSettings().get(Keys.RANDOM_ENGINE);
+        final Queue<ElementFactory<T>> factories = new ConcurrentLinkedQueue<>();
+
+        return LongStream.range(fromInclusive, toExclusive).mapToObj(index -> {
+            ElementFactory<T> factory = factories.poll();
+            if (factory == null) {
+                factory = new ElementFactory<>(context, seed, engine);
+            }
+            final T element = factory.create(Seeds.deriveSeed(seed, index));
+            factories.offer(factory);
+            return element;
+        });
+    }
+
+    /**
+     * Creates elements of a stream whose elements are generated
+     * from independent, derived seeds. The model is built once
+     * and reused for every element; only the random is reseeded.
+     * Since the model is not thread-safe, a factory is used
+     * by one thread at a time.
+     */
+    private static final class ElementFactory<T> {
+        private final ElementRandom random;
+        private final InternalModel<T> model;
+
+        ElementFactory(final ModelContext<T> context, final long seed, final RandomEngine engine) {
+            this.random = new ElementRandom(seed, engine);
+            this.model = new InternalModel<>(context.toBuilder().withRandom(random).build());
+        }
+
+        T create(final long elementSeed) {
+            random.reseed(elementSeed);
+            return new InstancioEngine(model).createRootObject();
+        }
+    }
+
     private InternalModel<T> createModel() {
         return new InternalModel<>(modelContextBuilder.build());
     }
@@ -16,7 +16,6 @@
 package org.instancio.internal;
 
 import org.instancio.generator.AfterGenerate;
-import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeKind;
 import org.instancio.internal.util.ReflectionUtils;
@@ -24,10 +23,10 @@ import org.jetbrains.annotations.Nullable;
 
 class ArrayElementNodePopulationFilter implements NodePopulationFilter {
 
-    private final ModelContext<?> context;
+    private final GenerationPlan plan;
 
-    ArrayElementNodePopulationFilter(final ModelContext<?> context) {
-        this.context = context;
+    ArrayElementNodePopulationFilter(final GenerationPlan plan) {
+        this.plan = plan;
     }
 
     @Override
@@ -44,7 +43,7 @@ class ArrayElementNodePopulationFilter implements NodePopulationFilter {
 
         // For APPLY_SELECTORS and remaining values, if there is at least
         // one matching selector for this node, then it should not be skipped
-        if (context.getGenerator(elementNode).isPresent()) {
+        if (plan.getNodePlan(elementNode).getUserGenerator().isPresent()) {
             return false;
         }
 
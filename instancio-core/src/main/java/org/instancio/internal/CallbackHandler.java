@@ -17,7 +17,6 @@ package org.instancio.internal;
 
 import org.instancio.OnCompleteCallback;
 import org.instancio.exception.InstancioApiException;
-import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.generator.InternalGeneratorHint;
 import org.instancio.internal.nodes.InternalNode;
@@ -32,11 +31,11 @@ import java.util.Map;
 public class CallbackHandler implements GenerationListener {
     private static final Logger LOG = LoggerFactory.getLogger(CallbackHandler.class);
 
-    private final ModelContext<?> context;
+    private final GenerationPlan plan;
     private final Map<InternalNode, List<Object>> resultsForCallbacks = new IdentityHashMap<>();
 
-    public CallbackHandler(final ModelContext<?> context) {
-        this.context = context;
+    CallbackHandler(final GenerationPlan plan) {
+        this.plan = plan;
     }
 
     @Override
@@ -71,7 +70,7 @@ public class CallbackHandler implements GenerationListener {
     }
 
     private List<OnCompleteCallback<?>> getCallbacks(final InternalNode node) {
-        return context.getCallbacks(node);
+        return plan.getNodePlan(node).getCallbacks();
     }
 
     private static void invokeCallback(final OnCompleteCallback<?> callback, final Object result) {
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.Random;
+import org.instancio.RandomEngine;
+import org.instancio.support.DefaultRandom;
+
+import java.util.Collection;
+
+/**
+ * A random that can be reseeded, used for generating elements
+ * of an indexed stream using a single model.
+ *
+ * <p>The model's generators hold a reference to this instance.
+ * Reseeding it before each element gives the element its own
+ * sequence of random values without rebuilding the model.
+ */
+final class ElementRandom implements Random {
+
+    private final RandomEngine engine;
+    private Random delegate;
+
+    ElementRandom(final long seed, final RandomEngine engine) {
+        this.engine = engine;
+        this.delegate = new DefaultRandom(seed, engine);
+    }
+
+    void reseed(final long seed) {
+        delegate = new DefaultRandom(seed, engine);
+    }
+
+    @Override
+    public long getSeed() {
+        return delegate.getSeed();
+    }
+
+    @Override
+    public boolean trueOrFalse() {
+        return delegate.trueOrFalse();
+    }
+
+    @Override
+    public boolean trueOrFalse(final double probability) {
+        return delegate.trueOrFalse(probability);
+    }
+
+    @Override
+    public boolean diceRoll(final boolean precondition) {
+        return delegate.diceRoll(precondition);
+    }
+
+    @Override
+    public byte byteRange(final byte min, final byte max) {
+        return delegate.byteRange(min, max);
+    }
+
+    @Override
+    public short shortRange(final short min, final short max) {
+        return delegate.shortRange(min, max);
+    }
+
+    @Override
+    public int intRange(final int min, final int max) {
+        return delegate.intRange(min, max);
+    }
+
+    @Override
+    public long longRange(final long min, final long max) {
+        return delegate.longRange(min, max);
+    }
+
+    @Override
+    public float floatRange(final float min, final float max) {
+        return delegate.floatRange(min, max);
+    }
+
+    @Override
+    public double doubleRange(final double min, final double max) {
+        return delegate.doubleRange(min, max);
+    }
+
+    @Override
+    public char characterRange(final char min, final char max) {
+        return delegate.characterRange(min, max);
+    }
+
+    @Override
+    public char character() {
+        return delegate.character();
+    }
+
+    @Override
+    public char alphanumericCharacter() {
+        return delegate.alphanumericCharacter();
+    }
+
+    @Override
+    public char lowerCaseCharacter() {
+        return delegate.lowerCaseCharacter();
+    }
+
+    @Override
+    public char upperCaseCharacter() {
+        return delegate.upperCaseCharacter();
+    }
+
+    @Override
+    public String lowerCaseAlphabetic(final int length) {
+        return delegate.lowerCaseAlphabetic(length);
+    }
+
+    @Override
+    public String upperCaseAlphabetic(final int length) {
+        return delegate.upperCaseAlphabetic(length);
+    }
+
+    @Override
+    public String mixedCaseAlphabetic(final int length) {
+        return delegate.mixedCaseAlphabetic(length);
+    }
+
+    @Override
+    public String alphanumeric(final int length) {
+        return delegate.alphanumeric(length);
+    }
+
+    @Override
+    public String digits(final int length) {
+        return delegate.digits(length);
+    }
+
+    @Override
+    public String stringOf(final int length, final char... chars) {
+        return delegate.stringOf(length, chars);
+    }
+
+    @Override
+    public <T> T oneOf(final T[] array) {
+        return delegate.oneOf(array);
+    }
+
+    @Override
+    public <T> T oneOf(final Collection<T> collection) {
+        return delegate.oneOf(collection);
+    }
+}
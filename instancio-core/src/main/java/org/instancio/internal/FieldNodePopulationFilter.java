@@ -17,7 +17,6 @@ package org.instancio.internal;
 
 import org.instancio.exception.InstancioException;
 import org.instancio.generator.AfterGenerate;
-import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeKind;
 import org.instancio.internal.util.ExceptionHandler;
@@ -25,10 +24,10 @@ import org.instancio.internal.util.ReflectionUtils;
 
 class FieldNodePopulationFilter implements NodePopulationFilter {
 
-    private final ModelContext<?> context;
+    private final GenerationPlan plan;
 
-    FieldNodePopulationFilter(final ModelContext<?> context) {
-        this.context = context;
+    FieldNodePopulationFilter(final GenerationPlan plan) {
+        this.plan = plan;
     }
 
     @Override
@@ -45,7 +44,7 @@ class FieldNodePopulationFilter implements NodePopulationFilter {
 
         // For APPLY_SELECTORS and remaining actions, if there is at least
         // one matching selector for this node, then it should not be skipped
-        if (context.getGenerator(fieldNode).isPresent()) {
+        if (plan.getNodePlan(fieldNode).getUserGenerator().isPresent()) {
             return false;
         }
         if (afterGenerate == AfterGenerate.POPULATE_NULLS) {
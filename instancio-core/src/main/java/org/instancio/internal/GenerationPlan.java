@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.assignment.AssignmentType;
+import org.instancio.exception.InstancioException;
+import org.instancio.generator.AfterGenerate;
+import org.instancio.internal.assigners.Assigner;
+import org.instancio.internal.assigners.FieldAssigner;
+import org.instancio.internal.assigners.MethodAssigner;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.util.SystemProperties;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
+
+/**
+ * Execution plan compiled from a model and shared by all
+ * {@link InstancioEngine} instances created from the same model.
+ *
+ * <p>The plan contains components that are independent of the object
+ * being generated, such as the generator facade and the assigner,
+ * as well as per-node data that is resolved once and then reused.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @since 2.13.0
+ */
+final class GenerationPlan {
+
+    private final ModelContext<?> context;
+    private final GeneratorFacade generatorFacade;
+    private final Assigner assigner;
+    private final AfterGenerate defaultAfterGenerate;
+    private final boolean overwriteExistingValues;
+    private final Map<InternalNode, NodePlan> nodePlans = new IdentityHashMap<>();
+
+    GenerationPlan(final ModelContext<?> context) {
+        this.context = context;
+        this.generatorFacade = new GeneratorFacade(context);
+        this.assigner = createAssigner(context.getSettings());
+        this.defaultAfterGenerate = context.getSettings().get(Keys.AFTER_GENERATE_HINT);
+        this.overwriteExistingValues = context.getSettings().get(Keys.OVERWRITE_EXISTING_VALUES);
+    }
+
+    private static Assigner createAssigner(final Settings settings) {
+        final AssignmentType defaultAssignment = settings.get(Keys.ASSIGNMENT_TYPE);
+
+        // The system property is used for running the feature test suite using both assignment types
+        final AssignmentType assignment = defaultIfNull(SystemProperties.getAssignmentType(), defaultAssignment);
+
+        if (assignment == AssignmentType.FIELD) {
+            return new FieldAssigner(settings);
+        } else if (assignment == AssignmentType.METHOD) {
+            return new MethodAssigner(settings);
+        }
+        throw new InstancioException("Invalid assignment type: " + assignment); // unreachable
+    }
+
+    NodePlan getNodePlan(final InternalNode node) {
+        NodePlan nodePlan = nodePlans.get(node);
+        if (nodePlan == null) {
+            nodePlan = new NodePlan(node, context);
+            nodePlans.put(node, nodePlan);
+        }
+        return nodePlan;
+    }
+
+    GeneratorFacade getGeneratorFacade() {
+        return generatorFacade;
+    }
+
+    Assigner getAssigner() {
+        return assigner;
+    }
+
+    AfterGenerate getDefaultAfterGenerate() {
+        return defaultAfterGenerate;
+    }
+
+    boolean isOverwriteExistingValues() {
+        return overwriteExistingValues;
+    }
+}
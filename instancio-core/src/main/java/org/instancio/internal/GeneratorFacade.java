@@ -33,12 +33,17 @@ import org.instancio.internal.handlers.UsingGeneratorResolverHandler;
 import org.instancio.internal.instantiation.Instantiator;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeKind;
+import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.internal.util.Sonar;
 import org.instancio.settings.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 class GeneratorFacade {
@@ -46,8 +51,13 @@ class GeneratorFacade {
 
     private final ModelContext<?> context;
     private final Random random;
-    private final NodeHandler[] nodeHandlers;
     private final GeneratorResolver generatorResolver;
+    private final NodeHandler userSuppliedGeneratorHandler;
+    private final NodeHandler arrayNodeHandler;
+    private final NodeHandler usingGeneratorResolverHandler;
+    private final NodeHandler collectionNodeHandler;
+    private final NodeHandler mapNodeHandler;
+    private final NodeHandler instantiatingHandler;
 
     GeneratorFacade(final ModelContext<?> context) {
         this.context = context;
@@ -64,14 +74,15 @@ class GeneratorFacade {
 
         final GeneratorSpecProcessor beanValidationProcessor = getGeneratorSpecProcessor();
 
-        this.nodeHandlers = new NodeHandler[]{
-                new UserSuppliedGeneratorHandler(context, generatorResolver, instantiator),
-                new ArrayNodeHandler(context, generatorResolver, beanValidationProcessor),
-                new UsingGeneratorResolverHandler(context, generatorResolver, beanValidationProcessor),
-                new CollectionNodeHandler(context, beanValidationProcessor),
-                new MapNodeHandler(context, beanValidationProcessor),
-                new InstantiatingHandler(instantiator)
-        };
+        this.userSuppliedGeneratorHandler = new UserSuppliedGeneratorHandler(
+                context, generatorResolver, instantiator);
+        this.arrayNodeHandler = new ArrayNodeHandler(
+                context, generatorResolver, beanValidationProcessor);
+        this.usingGeneratorResolverHandler = new UsingGeneratorResolverHandler(
+                context, generatorResolver, beanValidationProcessor);
+        this.collectionNodeHandler = new CollectionNodeHandler(context, beanValidationProcessor);
+        this.mapNodeHandler = new MapNodeHandler(context, beanValidationProcessor);
+        this.instantiatingHandler = new InstantiatingHandler(instantiator);
     }
 
     private GeneratorSpecProcessor getGeneratorSpecProcessor() {
@@ -89,17 +100,24 @@ class GeneratorFacade {
         return generatorResolver.get(node);
     }
 
-    GeneratorResult generateNodeValue(final InternalNode node) {
+    GeneratorResult generateNodeValue(final NodePlan nodePlan) {
+        final InternalNode node = nodePlan.getNode();
         if (node.is(NodeKind.IGNORED) || hasStaticField(node)) {
             return GeneratorResult.ignoredResult();
         }
 
-        if (shouldReturnNullForNullable(node)) {
+        if (random.diceRoll(nodePlan.isNullable())) {
             return GeneratorResult.nullResult();
         }
 
+        List<NodeHandler> handlers = nodePlan.getHandlers();
+        if (handlers == null) {
+            handlers = resolveHandlers(nodePlan);
+            nodePlan.setHandlers(handlers);
+        }
+
         GeneratorResult generatorResult = GeneratorResult.emptyResult();
-        for (NodeHandler handler : nodeHandlers) {
+        for (NodeHandler handler : handlers) {
             generatorResult = handler.getResult(node);
             if (!generatorResult.isEmpty()) {
                 LOG.trace("{} generated using '{}'", node, handler.getClass().getName());
@@ -110,8 +128,32 @@ class GeneratorFacade {
         return generatorResult;
     }
 
-    private boolean shouldReturnNullForNullable(final InternalNode node) {
-        final boolean precondition = context.isNullable(node);
-        return random.diceRoll(precondition);
+    /**
+     * Resolves handlers applicable to the given node. Handlers that can never
+     * produce a value for the node (for example, the array handler for
+     * a non-array type) are excluded, while the original order is preserved.
+     */
+    private List<NodeHandler> resolveHandlers(final NodePlan nodePlan) {
+        final Class<?> targetClass = nodePlan.getNode().getTargetClass();
+        final List<NodeHandler> handlers = new ArrayList<>(6);
+
+        if (nodePlan.getUserGenerator().isPresent()) {
+            handlers.add(userSuppliedGeneratorHandler);
+        }
+        if (targetClass.isArray()) {
+            handlers.add(arrayNodeHandler);
+        }
+        handlers.add(usingGeneratorResolverHandler);
+
+        if (Collection.class.isAssignableFrom(targetClass)) {
+            handlers.add(collectionNodeHandler);
+        }
+        if (Map.class.isAssignableFrom(targetClass)) {
+            handlers.add(mapNodeHandler);
+        }
+        if (ReflectionUtils.isArrayOrConcrete(targetClass)) {
+            handlers.add(instantiatingHandler);
+        }
+        return handlers;
     }
 }
@@ -15,7 +15,6 @@
  */
 package org.instancio.internal;
 
-import org.instancio.assignment.AssignmentType;
 import org.instancio.exception.InstancioException;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
@@ -24,8 +23,6 @@ import org.instancio.generator.hints.ArrayHint;
 import org.instancio.generator.hints.CollectionHint;
 import org.instancio.generator.hints.MapHint;
 import org.instancio.internal.assigners.Assigner;
-import org.instancio.internal.assigners.FieldAssigner;
-import org.instancio.internal.assigners.MethodAssigner;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.generator.ContainerAddFunction;
 import org.instancio.internal.generator.GeneratorResult;
@@ -39,17 +36,16 @@ import org.instancio.internal.util.Format;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.RecordUtils;
 import org.instancio.internal.util.ReflectionUtils;
-import org.instancio.internal.util.SystemProperties;
 import org.instancio.settings.Keys;
-import org.instancio.settings.Settings;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -66,11 +62,14 @@ import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
  * Entry point for generating an object.
  * <p>
  * A new instance of this class should be created for each object generated via {@link #createRootObject()}.
+ * Components that do not depend on the object being generated are obtained
+ * from the model's {@link GenerationPlan} and shared between instances.
  */
 @SuppressWarnings({"PMD.GodClass", "PMD.CyclomaticComplexity", "PMD.ExcessiveImports"})
 class InstancioEngine {
     private static final Logger LOG = LoggerFactory.getLogger(InstancioEngine.class);
 
+    private final GenerationPlan plan;
     private final GeneratorFacade generatorFacade;
     private final ModelContext<?> context;
     private final InternalNode rootNode;
@@ -79,31 +78,21 @@ class InstancioEngine {
     private final AfterGenerate defaultAfterGenerate;
     private final boolean overwriteExistingValues;
     private final Assigner assigner;
+    private final NodePopulationFilter fieldPopulationFilter;
+    private final NodePopulationFilter arrayElementPopulationFilter;
 
     InstancioEngine(InternalModel<?> model) {
         context = model.getModelContext();
         rootNode = model.getRootNode();
-        callbackHandler = new CallbackHandler(context);
-        generatorFacade = new GeneratorFacade(context);
-        defaultAfterGenerate = context.getSettings().get(Keys.AFTER_GENERATE_HINT);
-        overwriteExistingValues = context.getSettings().get(Keys.OVERWRITE_EXISTING_VALUES);
+        plan = model.getGenerationPlan();
+        callbackHandler = new CallbackHandler(plan);
+        generatorFacade = plan.getGeneratorFacade();
+        defaultAfterGenerate = plan.getDefaultAfterGenerate();
+        overwriteExistingValues = plan.isOverwriteExistingValues();
         listeners = Arrays.asList(callbackHandler, new GeneratedNullValueListener(context));
-        assigner = getAssigner();
-    }
-
-    private Assigner getAssigner() {
-        final Settings settings = context.getSettings();
-        final AssignmentType defaultAssignment = settings.get(Keys.ASSIGNMENT_TYPE);
-
-        // The system property is used for running the feature test suite using both assignment types
-        final AssignmentType assignment = defaultIfNull(SystemProperties.getAssignmentType(), defaultAssignment);
-
-        if (assignment == AssignmentType.FIELD) {
-            return new FieldAssigner(settings);
-        } else if (assignment == AssignmentType.METHOD) {
-            return new MethodAssigner(settings);
-        }
-        throw new InstancioException("Invalid assignment type: " + assignment); // unreachable
+        assigner = plan.getAssigner();
+        fieldPopulationFilter = new FieldNodePopulationFilter(plan);
+        arrayElementPopulationFilter = new ArrayElementNodePopulationFilter(plan);
     }
 
     @SuppressWarnings("unchecked")
@@ -112,11 +101,32 @@ class InstancioEngine {
             final GeneratorResult result = createObject(rootNode);
             final T rootResult = (T) result.getValue();
             callbackHandler.invokeCallbacks();
+            expandUnvisitedNodes();
             context.reportWarnings();
             return rootResult;
         }).orElse(null);
     }
 
+    /**
+     * With lazy node expansion, branches that were not visited during
+     * generation (for example, because a parent value was supplied)
+     * are never expanded, so selectors targeting them are not marked
+     * as used. Expand the remaining nodes to avoid strict mode reporting
+     * such selectors as unused.
+     */
+    private void expandUnvisitedNodes() {
+        if (!context.getSettings().get(Keys.LAZY_NODE_EXPANSION_ENABLED)
+                || !context.hasUnusedNodeSelectors()) {
+            return;
+        }
+
+        final Deque<InternalNode> queue = new ArrayDeque<>();
+        queue.push(rootNode);
+        while (!queue.isEmpty()) {
+            queue.addAll(queue.pop().getChildren());
+        }
+    }
+
     private GeneratorResult createObject(final InternalNode node) {
         LOG.trace("Processing: {}", node);
 
@@ -334,7 +344,6 @@ class InstancioEngine {
         }
 
         final AfterGenerate action = hints.afterGenerate();
-        final NodePopulationFilter filter = new ArrayElementNodePopulationFilter(context);
         final boolean isPrimitiveArray = elementNode.getRawType().isPrimitive();
 
         // If array elements fail to generate for any reason and null is returned,
@@ -352,7 +361,7 @@ class InstancioEngine {
                 populateChildren(elementNodeChildren, GeneratorResult.create(currentValue, hints));
             }
 
-            if (filter.shouldSkip(elementNode, action, currentValue)) {
+            if (arrayElementPopulationFilter.shouldSkip(elementNode, action, currentValue)) {
                 continue;
             }
 
@@ -462,7 +471,7 @@ class InstancioEngine {
 
     private GeneratorResult generateRecord(final InternalNode node) {
         // Handle the case where user supplies a generator for creating a record.
-        Optional<Generator<?>> generator = context.getGenerator(node);
+        Optional<Generator<?>> generator = plan.getNodePlan(node).getUserGenerator();
         if (!generator.isPresent()) {
             generator = generatorFacade.getGenerator(node);
         }
@@ -515,19 +524,18 @@ class InstancioEngine {
 
         final Object value = generatorResult.getValue();
         final AfterGenerate action = generatorResult.getHints().afterGenerate();
-        final NodePopulationFilter filter = new FieldNodePopulationFilter(context);
 
         for (final InternalNode child : children) {
-            if (filter.shouldSkip(child, action, value)) {
+            if (fieldPopulationFilter.shouldSkip(child, action, value)) {
                 continue;
             }
 
             final GeneratorResult result = createObject(child);
             if (!result.isEmpty() && !result.isIgnored()) {
                 final Object arg = result.getValue();
-                final Field field = child.getField();
 
-                if (overwriteExistingValues || !ReflectionUtils.hasNonNullOrNonDefaultPrimitiveValue(field, value)) {
+                if (overwriteExistingValues
+                        || !ReflectionUtils.hasNonNullOrNonDefaultPrimitiveValue(child.getFieldAccessor(), value)) {
                     assigner.assign(child, value, arg);
                 }
             }
@@ -545,7 +553,7 @@ class InstancioEngine {
     }
 
     private GeneratorResult generateValue(final InternalNode node) {
-        final GeneratorResult generatorResult = generatorFacade.generateNodeValue(node);
+        final GeneratorResult generatorResult = generatorFacade.generateNodeValue(plan.getNodePlan(node));
         notifyListeners(node, generatorResult);
         return generatorResult;
     }
@@ -17,18 +17,21 @@ package org.instancio.internal;
 
 import org.instancio.Model;
 import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.context.NodeTreeCache;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeContext;
 import org.instancio.internal.nodes.NodeFactory;
+import org.instancio.settings.Keys;
 
 final class InternalModel<T> implements Model<T> {
 
     private final ModelContext<T> modelContext;
     private final InternalNode rootNode;
+    private GenerationPlan generationPlan;
 
     InternalModel(ModelContext<T> modelContext) {
         this.modelContext = modelContext;
-        this.rootNode = createRootNode();
+        this.rootNode = NodeTreeCache.getRootNode(modelContext, this::createRootNode);
     }
 
     ModelContext<T> getModelContext() {
@@ -39,9 +42,23 @@ final class InternalModel<T> implements Model<T> {
         return rootNode;
     }
 
+    /**
+     * Returns the execution plan for this model. The plan is created
+     * on first access and reused for every object generated from this model.
+     *
+     * @return the generation plan
+     */
+    GenerationPlan getGenerationPlan() {
+        if (generationPlan == null) {
+            generationPlan = new GenerationPlan(modelContext);
+        }
+        return generationPlan;
+    }
+
     private InternalNode createRootNode() {
         final NodeContext nodeContext = NodeContext.builder()
                 .maxDepth(modelContext.getMaxDepth())
+                .lazy(modelContext.getSettings().get(Keys.LAZY_NODE_EXPANSION_ENABLED))
                 .rootTypeMap(modelContext.getRootTypeMap())
                 .ignoredSelectorMap(modelContext.getIgnoredSelectorMap())
                 .subtypeSelectorMap(modelContext.getSubtypeSelectorMap())
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.OnCompleteCallback;
+import org.instancio.generator.Generator;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.handlers.NodeHandler;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.util.Sonar;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Holds data resolved for a node that does not change
+ * between objects generated from the same model.
+ *
+ * <p>Values are resolved lazily, on first access, so that selectors
+ * are marked as used at the same point in the generation process
+ * as they would be without the plan (this matters for strict mode).
+ *
+ * @since 2.13.0
+ */
+final class NodePlan {
+
+    private final InternalNode node;
+    private final ModelContext<?> context;
+
+    private Boolean nullable;
+    private Optional<Generator<?>> userGenerator;
+    private List<OnCompleteCallback<?>> callbacks;
+    private List<NodeHandler> handlers;
+
+    NodePlan(final InternalNode node, final ModelContext<?> context) {
+        this.node = node;
+        this.context = context;
+    }
+
+    InternalNode getNode() {
+        return node;
+    }
+
+    boolean isNullable() {
+        if (nullable == null) {
+            nullable = context.isNullable(node);
+        }
+        return nullable;
+    }
+
+    @SuppressWarnings({Sonar.NULL_OPTIONAL, Sonar.GENERIC_WILDCARD_IN_RETURN})
+    Optional<Generator<?>> getUserGenerator() {
+        if (userGenerator == null) {
+            userGenerator = context.getGenerator(node);
+        }
+        return userGenerator;
+    }
+
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
+    List<OnCompleteCallback<?>> getCallbacks() {
+        if (callbacks == null) {
+            callbacks = context.getCallbacks(node);
+        }
+        return callbacks;
+    }
+
+    /**
+     * Returns handlers that may produce a value for this node,
+     * in the order they should be attempted.
+     *
+     * @return handlers, or {@code null} if not resolved yet
+     */
+    List<NodeHandler> getHandlers() {
+        return handlers;
+    }
+
+    void setHandlers(final List<NodeHandler> handlers) {
+        this.handlers = handlers;
+    }
+}
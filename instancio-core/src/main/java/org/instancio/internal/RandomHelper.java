@@ -16,8 +16,8 @@
 package org.instancio.internal;
 
 import org.instancio.Random;
+import org.instancio.RandomEngine;
 import org.instancio.documentation.InternalApi;
-import org.instancio.internal.util.ObjectUtils;
 import org.instancio.support.DefaultRandom;
 import org.instancio.support.Global;
 import org.instancio.support.Seeds;
@@ -27,6 +27,8 @@ import org.jetbrains.annotations.Nullable;
 @InternalApi
 public final class RandomHelper {
 
+    private static final ThreadLocal<ConvertedRandom> CONVERTED_RANDOM = new ThreadLocal<>();
+
     /**
      * Precedence of supplied seed values.
      *
@@ -39,31 +41,73 @@ public final class RandomHelper {
      *   <li>random seed</li>
      * </ol>
      *
-     * @param settingsSeed seed from {@code Settings}
+     * <p>If a shared instance, such as the one supplied by the JUnit extension,
+     * uses a different engine than the one specified, an instance with
+     * the same seed and the specified engine is returned. The instance
+     * is reused by the current thread for as long as the shared instance
+     * and engine do not change, so that subsequent objects continue
+     * the sequence instead of repeating it.
+     *
+     * <p>The {@code settingsSeed} must only be specified if the seed was
+     * supplied via {@code withSettings()} or {@code @WithSettings}, since
+     * a seed from {@code instancio.properties} is handled by the configured
+     * random. A seed is therefore treated as explicit based on where it
+     * came from, even if its value is the same as the configured seed.
+     *
+     * @param settingsSeed seed from {@code withSettings()} or thread-local settings
      * @param withSeed     seed from {@code withSeed()}
+     * @param engine       random number generator from {@code Settings}
      * @return random instance resolved using the above precedence rules
      */
     public static Random resolveRandom(
             @Nullable final Long settingsSeed,
-            @Nullable final Long withSeed) {
+            @Nullable final Long withSeed,
+            final RandomEngine engine) {
 
         if (withSeed != null) {
-            return new DefaultRandom(withSeed);
+            return new DefaultRandom(withSeed, engine);
         }
 
-        final Random configuredRandom = Global.getConfiguredRandom();
-
         // This ensures we can override seed from the properties file using a custom Settings instance.
-        if (settingsSeed != null && (configuredRandom == null || configuredRandom.getSeed() != settingsSeed)) {
-            return new DefaultRandom(settingsSeed);
+        if (settingsSeed != null) {
+            return new DefaultRandom(settingsSeed, engine);
         }
 
         // If running under JUnit extension, use the Random instance supplied by the extension
         if (ThreadLocalRandom.getInstance().get() != null) {
-            return ThreadLocalRandom.getInstance().get();
+            return withEngine(ThreadLocalRandom.getInstance().get(), engine);
         }
 
-        return ObjectUtils.defaultIfNull(configuredRandom, () -> new DefaultRandom(Seeds.randomSeed()));
+        final Random configuredRandom = Global.getConfiguredRandom();
+        return configuredRandom == null
+                ? new DefaultRandom(Seeds.randomSeed(), engine)
+                : withEngine(configuredRandom, engine);
+    }
+
+    private static Random withEngine(final Random random, final RandomEngine engine) {
+        if (random instanceof DefaultRandom && ((DefaultRandom) random).getEngine() != engine) {
+            final ConvertedRandom converted = CONVERTED_RANDOM.get();
+            if (converted != null && converted.source == random && converted.random.getEngine() == engine) { // NOPMD
+                return converted.random;
+            }
+            final DefaultRandom result = new DefaultRandom(random.getSeed(), engine);
+            CONVERTED_RANDOM.set(new ConvertedRandom(random, result));
+            return result;
+        }
+        return random;
+    }
+
+    /**
+     * A shared random instance and its equivalent using a different engine.
+     */
+    private static final class ConvertedRandom {
+        private final Random source;
+        private final DefaultRandom random;
+
+        private ConvertedRandom(final Random source, final DefaultRandom random) {
+            this.source = source;
+            this.random = random;
+        }
     }
 
     private RandomHelper() {
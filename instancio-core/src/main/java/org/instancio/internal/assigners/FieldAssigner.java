@@ -19,6 +19,7 @@ import org.instancio.assignment.AssignmentType;
 import org.instancio.assignment.OnSetFieldError;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.util.FieldAccessor;
 import org.instancio.internal.util.Format;
 import org.instancio.internal.util.Sonar;
 import org.instancio.settings.Keys;
@@ -46,17 +47,23 @@ public class FieldAssigner implements Assigner {
         final Field field = node.getField();
 
         if (value != null) {
-            setField(target, field, value);
+            setField(target, node, value);
         } else if (!field.getType().isPrimitive()) { // can't assign null to a primitive
-            setField(target, field, null);
+            setField(target, node, null);
         }
     }
 
     @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
-    private void setField(final Object target, final Field field, final Object value) {
+    private void setField(final Object target, final InternalNode node, final Object value) {
+        final Field field = node.getField();
         try {
-            field.setAccessible(true);
-            field.set(target, value);
+            final FieldAccessor accessor = node.getFieldAccessor();
+            if (accessor == null) {
+                field.setAccessible(true);
+                field.set(target, value);
+            } else {
+                accessor.set(target, value);
+            }
         } catch (IllegalArgumentException ex) {
             // Wrong type is being assigned to a field.
             // Always propagate type mismatch errors as it's either a bug or user error.
@@ -32,15 +32,27 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.instancio.internal.util.ExceptionHandler.logException;
 
 public class MethodAssigner implements Assigner {
     private static final Logger LOG = LoggerFactory.getLogger(MethodAssigner.class);
 
+    /**
+     * Setter methods resolved per field for each setter style,
+     * including fields that have no setter. Setters are stored per
+     * declaring class, so that cached fields and methods do not
+     * prevent the class from being unloaded.
+     */
+    private static final Map<SetterStyle, ClassValue<Map<Field, ResolvedSetter>>> SETTERS = createSetterCache();
+
     private final Assigner fieldAssigner;
     private final MethodNameResolver setterNameResolver;
+    private final ClassValue<Map<Field, ResolvedSetter>> setters;
     private final SetterStyle setterStyle;
     private final OnSetMethodNotFound onSetMethodNotFound;
     private final OnSetMethodError onSetMethodError;
@@ -50,6 +62,7 @@ public class MethodAssigner implements Assigner {
         this.onSetMethodError = settings.get(Keys.ON_SET_METHOD_ERROR);
         this.setterStyle = settings.get(Keys.SETTER_STYLE);
         this.setterNameResolver = getMethodNameResolver(setterStyle);
+        this.setters = SETTERS.get(setterStyle);
         this.fieldAssigner = new FieldAssigner(settings);
 
         LOG.trace("{}, {}, {}, {}", AssignmentType.METHOD, setterStyle, onSetMethodNotFound, onSetMethodError);
@@ -83,15 +96,29 @@ public class MethodAssigner implements Assigner {
         }
     }
 
+    private static Map<SetterStyle, ClassValue<Map<Field, ResolvedSetter>>> createSetterCache() {
+        final Map<SetterStyle, ClassValue<Map<Field, ResolvedSetter>>> map = new EnumMap<>(SetterStyle.class);
+        for (SetterStyle style : SetterStyle.values()) {
+            map.put(style, new ClassValue<Map<Field, ResolvedSetter>>() {
+                @Override
+                protected Map<Field, ResolvedSetter> computeValue(final Class<?> declaringClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            });
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
     @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
     private void assignViaMethod(final InternalNode node, final Object target, final Object arg) {
-        final String methodName = setterNameResolver.resolveFor(node.getField());
-        final Optional<Method> methodOpt = resolveSetterMethod(methodName, node.getField());
+        final ResolvedSetter setter = getSetter(node.getField());
 
-        if (methodOpt.isPresent()) {
-            final Method method = methodOpt.get();
+        if (setter.method != null) {
+            final Method method = setter.method;
             try {
-                method.setAccessible(true);
+                if (!setter.accessible) {
+                    method.setAccessible(true);
+                }
                 method.invoke(target, arg);
             } catch (IllegalAccessException ex) {
                 throw new InstancioException("Error setting value via method: " + method, ex);
@@ -99,7 +126,7 @@ public class MethodAssigner implements Assigner {
                 handleMethodInvocationError(node, target, arg, method, ex);
             }
         } else {
-            handleMethodNotFoundError(node, target, arg, methodName);
+            handleMethodNotFoundError(node, target, arg, setter.methodName);
         }
     }
 
@@ -145,15 +172,48 @@ public class MethodAssigner implements Assigner {
         }
     }
 
-    private Optional<Method> resolveSetterMethod(final String methodName, final Field field) {
+    private ResolvedSetter getSetter(final Field field) {
+        final Map<Field, ResolvedSetter> classSetters = setters.get(field.getDeclaringClass());
+        final ResolvedSetter setter = classSetters.get(field);
+        return setter != null ? setter : classSetters.computeIfAbsent(field, this::resolveSetter);
+    }
+
+    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    private ResolvedSetter resolveSetter(final Field field) {
+        final String methodName = setterNameResolver.resolveFor(field);
         if (methodName != null) {
             try {
                 final Class<?> klass = field.getDeclaringClass();
-                return Optional.of(klass.getDeclaredMethod(methodName, field.getType()));
+                final Method method = klass.getDeclaredMethod(methodName, field.getType());
+                boolean accessible;
+                try {
+                    method.setAccessible(true);
+                    accessible = true;
+                } catch (RuntimeException ex) {
+                    // will be retried and reported when the method is invoked
+                    accessible = false;
+                }
+                return new ResolvedSetter(methodName, method, accessible);
             } catch (NoSuchMethodException ex) {
                 logException("Resolved setter method '{}' for field '{}' does not exist", ex, methodName, Format.formatField(field));
             }
         }
-        return Optional.empty();
+        return new ResolvedSetter(methodName, null, false);
+    }
+
+    /**
+     * Result of resolving a setter for a field. The method
+     * is {@code null} if the setter does not exist.
+     */
+    private static final class ResolvedSetter {
+        private final String methodName;
+        private final Method method;
+        private final boolean accessible;
+
+        private ResolvedSetter(final String methodName, final Method method, final boolean accessible) {
+            this.methodName = methodName;
+            this.method = method;
+            this.accessible = accessible;
+        }
     }
 }
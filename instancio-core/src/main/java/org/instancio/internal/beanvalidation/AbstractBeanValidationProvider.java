@@ -18,14 +18,14 @@ package org.instancio.internal.beanvalidation;
 import org.instancio.exception.InstancioException;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
-import org.instancio.generator.GeneratorSpec;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.lang.StringGenerator;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
@@ -44,18 +44,17 @@ abstract class AbstractBeanValidationProvider implements BeanValidationProvider
     }
 
 
-    private Generator<?> resolveGenerator(Annotation annotation, GeneratorContext context) {
-        Class<? extends Annotation> annotationType = annotation.annotationType();
-        BiFunction<Annotation, GeneratorContext, Generator<?>> generatorBuilder = this.map.get(annotationType);
+    private BiFunction<Annotation, GeneratorContext, Generator<?>> getGeneratorBuilder(final Annotation annotation) {
+        final Class<? extends Annotation> annotationType = annotation.annotationType();
+        final BiFunction<Annotation, GeneratorContext, Generator<?>> generatorBuilder = this.map.get(annotationType);
         if (generatorBuilder != null) {
-            return generatorBuilder.apply(annotation, context);
+            return generatorBuilder;
         } else {
             // should not be reachable if caller checked for supported annotations
             throw new InstancioException("Unmapped primary annotation:  " + annotationType.getName());
         }
     }
 
-
     /**
      * Returns a resolver for annotation handlers for this provider
      *
@@ -64,37 +63,42 @@ abstract class AbstractBeanValidationProvider implements BeanValidationProvider
     protected abstract AnnotationHandlerResolver getAnnotationHandlerResolver();
 
     @Override
-    public final void consumeAnnotations(final AnnotationMap map,
-                                         final GeneratorSpec<?> spec,
-                                         final Class<?> targetClass,
-                                         final Field field) {
-
+    public final void consumeAnnotations(final AnnotationMap map, final List<FieldConstraints.Constraint> constraints) {
         final AnnotationHandlerResolver resolver = getAnnotationHandlerResolver();
         final Annotation primary = map.removePrimary();
 
         if (primary != null) {
+            constraints.add(primaryConstraint(primary, getGeneratorBuilder(primary), resolver.resolveHandler(primary)));
+        }
+
+        final Collection<Annotation> annotations = map.getAnnotations();
+        for (Annotation annotation : annotations) {
+            final FieldAnnotationHandler handler = resolver.resolveHandler(annotation);
+            if (handler != null) {
+                constraints.add((spec, field, targetClass) -> handler.process(annotation, spec, field, targetClass));
+                map.remove(annotation.annotationType());
+            }
+        }
+    }
+
+    private static FieldConstraints.Constraint primaryConstraint(
+            final Annotation primary,
+            final BiFunction<Annotation, GeneratorContext, Generator<?>> generatorBuilder,
+            @Nullable final FieldAnnotationHandler handler) {
+
+        return (spec, field, targetClass) -> {
             final AbstractGenerator<?> suppliedGenerator = (AbstractGenerator<?>) spec;
             final GeneratorContext context = suppliedGenerator.getContext();
-            final Generator<?> actualGenerator = resolveGenerator(primary, context);
+            final Generator<?> actualGenerator = generatorBuilder.apply(primary, context);
 
             // Only string generator supports delegate generators.
             // An example would be delegating to the URLGenerator to handle
             // a @URL annotation on a string field
             ((StringGenerator) spec).setDelegate(actualGenerator);
 
-            final FieldAnnotationHandler handler = resolver.resolveHandler(primary);
             if (handler != null) {
                 handler.process(primary, actualGenerator, field, targetClass);
             }
-        }
-
-        final Collection<Annotation> annotations = map.getAnnotations();
-        for (Annotation annotation : annotations) {
-            final FieldAnnotationHandler handler = resolver.resolveHandler(annotation);
-            if (handler != null) {
-                handler.process(annotation, spec, field, targetClass);
-                map.remove(annotation.annotationType());
-            }
-        }
+        };
     }
 }
@@ -26,6 +26,8 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is the entry point for processing Bean Validation annotations.
@@ -46,6 +48,11 @@ import java.util.List;
  * {@code  @Email, @URL, @UUID}. Currently, all supported primary annotations
  * target character sequences. Once a primary annotation has been consumed,
  * the processor will apply the remaining annotations.
+ *
+ * <p>Available providers are detected once. The annotations of a field
+ * are resolved into {@link FieldConstraints} the first time the field
+ * is processed. Resolved constraints are cached per declaring class,
+ * so that they do not prevent the class from being unloaded.
  */
 public class BeanValidationProcessor implements GeneratorSpecProcessor {
 
@@ -53,11 +60,15 @@ public class BeanValidationProcessor implements GeneratorSpecProcessor {
     private static final String JAKARTA_VALIDATOR_CLASS = "jakarta.validation.Validation";
     private static final String HIBERNATE_VALIDATOR_CLASS = "org.hibernate.validator.HibernateValidator";
 
-    private final List<BeanValidationProvider> validationProviders;
+    private static final List<BeanValidationProvider> VALIDATION_PROVIDERS = initValidationProviders();
 
-    public BeanValidationProcessor() {
-        validationProviders = initValidationProviders();
-    }
+    private static final ClassValue<Map<Field, FieldConstraints>> CONSTRAINTS =
+            new ClassValue<Map<Field, FieldConstraints>>() {
+                @Override
+                protected Map<Field, FieldConstraints> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
 
     @Override
     public void process(@NotNull final GeneratorSpec<?> spec,
@@ -68,23 +79,45 @@ public class BeanValidationProcessor implements GeneratorSpecProcessor {
             return;
         }
 
+        getConstraints(field).apply(spec, targetClass, field);
+    }
+
+    /**
+     * Returns constraints declared on the given field. Constraints
+     * are resolved the first time they are requested for a field.
+     *
+     * @param field to resolve constraints for
+     * @return constraints declared on the field
+     */
+    static FieldConstraints getConstraints(final Field field) {
+        return CONSTRAINTS.get(field.getDeclaringClass())
+                .computeIfAbsent(field, BeanValidationProcessor::resolveConstraints);
+    }
+
+    private static FieldConstraints resolveConstraints(final Field field) {
         final Annotation[] annotations = field.getDeclaredAnnotations();
+        if (annotations.length == 0 || VALIDATION_PROVIDERS.isEmpty()) {
+            return FieldConstraints.NONE;
+        }
+
         final AnnotationMap map = new AnnotationMap(annotations);
+        final List<FieldConstraints.Constraint> constraints = new ArrayList<>(annotations.length);
 
-        for (BeanValidationProvider provider : validationProviders) {
+        for (BeanValidationProvider provider : VALIDATION_PROVIDERS) {
             for (Annotation annotation : annotations) {
                 if (provider.isPrimary(annotation.annotationType())) {
                     map.setPrimary(annotation);
-                    provider.consumeAnnotations(map, spec, targetClass, field);
+                    provider.consumeAnnotations(map, constraints);
                     break;
                 }
             }
         }
 
         // consume remaining annotations, if any
-        for (BeanValidationProvider provider : validationProviders) {
-            provider.consumeAnnotations(map, spec, targetClass, field);
+        for (BeanValidationProvider provider : VALIDATION_PROVIDERS) {
+            provider.consumeAnnotations(map, constraints);
         }
+        return FieldConstraints.of(constraints);
     }
 
     private static List<BeanValidationProvider> initValidationProviders() {
@@ -16,10 +16,9 @@
 package org.instancio.internal.beanvalidation;
 
 import org.instancio.documentation.InternalApi;
-import org.instancio.generator.GeneratorSpec;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
+import java.util.List;
 
 /**
  * Provides support for Bean Validation annotations.
@@ -42,16 +41,11 @@ interface BeanValidationProvider {
     /**
      * Consumes all the annotations supported by this provider from the given map,
      * starting with the primary annotation. Consumed annotations are moved
-     * from the map.
+     * from the map, and the constraints they define are added to the given list.
      *
      * @param map         from which annotations will be consumed
-     * @param spec        generator spec for the given field
-     * @param targetClass type being generated
-     * @param field       the annotations are declared on
-     * @since 2.7.0
+     * @param constraints to which resolved constraints will be added
+     * @since 2.13.0
      */
-    void consumeAnnotations(AnnotationMap map,
-                            GeneratorSpec<?> spec,
-                            Class<?> targetClass,
-                            Field field);
+    void consumeAnnotations(AnnotationMap map, List<FieldConstraints.Constraint> constraints);
 }
@@ -15,7 +15,6 @@
  */
 package org.instancio.internal.beanvalidation;
 
-import org.instancio.Random;
 import org.instancio.generator.GeneratorSpec;
 import org.instancio.generator.specs.ArrayGeneratorSpec;
 import org.instancio.generator.specs.BigDecimalGeneratorSpec;
@@ -84,10 +83,7 @@ class CommonBeanValidationHandlerResolver implements AnnotationHandlerResolver {
                         .length(getInteger(annotation))
                         .allowEmpty(false);
 
-                if (fraction > 0) {
-                    final Random random = generator.getContext().random();
-                    generator.suffix("." + random.digits(fraction));
-                }
+                generator.setFractionDigits(fraction);
 
             } else if (spec instanceof NumberGeneratorSpec<?>) {
                 final NumberGeneratorSpec<Number> numSpec = (NumberGeneratorSpec<Number>) spec;
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.beanvalidation;
+
+import org.instancio.generator.GeneratorSpec;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bean Validation constraints resolved from the annotations
+ * declared on a field.
+ *
+ * <p>Resolving constraints requires reading the field's annotations
+ * and determining the handler for each of them. Since the result depends
+ * only on the field, constraints are resolved once per field and
+ * then applied to each generator spec created for the field.
+ *
+ * @since 2.13.0
+ */
+final class FieldConstraints {
+
+    static final FieldConstraints NONE = new FieldConstraints(Collections.emptyList());
+
+    private final List<Constraint> constraints;
+
+    private FieldConstraints(final List<Constraint> constraints) {
+        this.constraints = constraints;
+    }
+
+    static FieldConstraints of(final List<Constraint> constraints) {
+        return constraints.isEmpty()
+                ? NONE
+                : new FieldConstraints(Collections.unmodifiableList(new ArrayList<>(constraints)));
+    }
+
+    /**
+     * Applies the constraints, in the order they were resolved,
+     * to the given generator spec.
+     *
+     * @param spec        generator spec for the field
+     * @param targetClass type being generated
+     * @param field       the constraints were resolved from
+     */
+    void apply(final GeneratorSpec<?> spec, final Class<?> targetClass, final Field field) {
+        for (Constraint constraint : constraints) {
+            constraint.apply(spec, field, targetClass);
+        }
+    }
+
+    boolean isEmpty() {
+        return constraints.isEmpty();
+    }
+
+    /**
+     * A constraint resulting from a single annotation.
+     */
+    @FunctionalInterface
+    interface Constraint {
+
+        /**
+         * Customises the given generator spec.
+         *
+         * @param spec        generator spec for the field
+         * @param field       the annotation is declared on
+         * @param targetClass type being generated
+         */
+        void apply(GeneratorSpec<?> spec, Field field, Class<?> targetClass);
+    }
+}
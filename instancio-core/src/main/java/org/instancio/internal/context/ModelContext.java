@@ -27,8 +27,10 @@ import org.instancio.internal.RandomHelper;
 import org.instancio.internal.generator.misc.SupplierAdapter;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.spi.InternalContainerFactoryProvider;
-import org.instancio.internal.spi.InternalServiceProviderContext;
 import org.instancio.internal.spi.Providers;
+import org.instancio.internal.settings.InternalSettings;
+import org.instancio.internal.settings.MergedSettingsCache;
+import org.instancio.internal.spi.ProvidersCache;
 import org.instancio.internal.util.CollectionUtils;
 import org.instancio.internal.util.ServiceLoaders;
 import org.instancio.internal.util.Sonar;
@@ -36,7 +38,6 @@ import org.instancio.internal.util.TypeUtils;
 import org.instancio.internal.util.Verify;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
-import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.support.Global;
 import org.instancio.support.ThreadLocalSettings;
 import org.slf4j.Logger;
@@ -75,6 +76,7 @@ public final class ModelContext<T> {
     private final Map<TypeVariable<?>, Class<?>> rootTypeMap;
     private final Integer maxDepth;
     private final Long seed;
+    private final Long settingsSeed;
     private final Random random;
     private final Settings settings;
     private final BooleanSelectorMap ignoredSelectorMap;
@@ -95,7 +97,9 @@ public final class ModelContext<T> {
         settings = createSettings(builder);
         maxDepth = getMaxDepth(builder.maxDepth, settings);
 
-        random = RandomHelper.resolveRandom(settings.get(Keys.SEED), builder.seed);
+        settingsSeed = getSettingsSeed(builder.settingsSeed);
+        random = builder.random != null ? builder.random : RandomHelper.resolveRandom(
+                settingsSeed, builder.seed, settings.get(Keys.RANDOM_ENGINE));
 
         ignoredSelectorMap = new BooleanSelectorMap(builder.ignoredTargets);
         nullableSelectorMap = new BooleanSelectorMap(builder.nullableTargets);
@@ -108,9 +112,20 @@ public final class ModelContext<T> {
 
         subtypeSelectorMap.putAll(generatorSelectorMap.getGeneratorSubtypeMap());
 
-        providers = new Providers(
-                ServiceLoaders.loadAll(InstancioServiceProvider.class),
-                new InternalServiceProviderContext(settings));
+        providers = ProvidersCache.get(settings);
+    }
+
+    /**
+     * Returns the seed specified via {@code withSettings()} or, failing that,
+     * via thread-local settings. Unlike the seed of the merged settings,
+     * this excludes the seed from {@code instancio.properties}.
+     */
+    private static Long getSettingsSeed(final Long builderSettingsSeed) {
+        if (builderSettingsSeed != null) {
+            return builderSettingsSeed;
+        }
+        final Settings threadLocalSettings = ThreadLocalSettings.getInstance().get();
+        return threadLocalSettings == null ? null : threadLocalSettings.get(Keys.SEED);
     }
 
     private static Integer getMaxDepth(final Integer builderMaxDepth, final Settings settings) {
@@ -118,15 +133,14 @@ public final class ModelContext<T> {
     }
 
     private static Settings createSettings(final Builder<?> builder) {
-        final Settings settings = Global.getPropertiesFileSettings()
-                .merge(ThreadLocalSettings.getInstance().get())
-                .merge(builder.settings);
+        final Settings settings = MergedSettingsCache.get(
+                Global.getPropertiesFileSettings(),
+                ThreadLocalSettings.getInstance().get(),
+                builder.settings,
+                Boolean.TRUE.equals(builder.lenient));
 
-        if (Boolean.TRUE.equals(builder.lenient)) {
-            settings.set(Keys.MODE, Mode.LENIENT);
-        }
         LOG.trace("Resolved settings: {}", settings);
-        return settings.lock();
+        return settings;
     }
 
     public List<InternalContainerFactoryProvider> getContainerFactories() {
@@ -148,6 +162,21 @@ public final class ModelContext<T> {
         reporter.report();
     }
 
+    /**
+     * Returns {@code true} if strict mode is enabled and there are
+     * {@code ignore()} or {@code subtype()} selectors that have not been
+     * marked as used. These selectors are marked as used when nodes are
+     * created, therefore with lazy node expansion enabled, they remain
+     * unused until the branches they target have been expanded.
+     *
+     * @return {@code true} if there are unused node selectors in strict mode
+     */
+    public boolean hasUnusedNodeSelectors() {
+        return settings.get(Keys.MODE) == Mode.STRICT
+                && (!ignoredSelectorMap.getSelectorMap().getUnusedKeys().isEmpty()
+                || !subtypeSelectorMap.getSelectorMap().getUnusedKeys().isEmpty());
+    }
+
     void reportUnusedSelectorWarnings() {
         if (settings.get(Keys.MODE) == Mode.STRICT) {
             final UnusedSelectorReporter reporter = UnusedSelectorReporter.builder()
@@ -215,6 +244,7 @@ public final class ModelContext<T> {
         builder.rootTypeParameters.addAll(this.rootTypeParameters);
         builder.maxDepth = this.maxDepth;
         builder.seed = this.seed;
+        builder.settingsSeed = this.settingsSeed;
         builder.settings = this.settings;
         builder.nullableTargets.addAll(this.nullableSelectorMap.getTargetSelectors());
         builder.ignoredTargets.addAll(this.ignoredSelectorMap.getTargetSelectors());
@@ -244,6 +274,8 @@ public final class ModelContext<T> {
         private Settings settings;
         private Integer maxDepth;
         private Long seed;
+        private Long settingsSeed;
+        private Random random;
         private Boolean lenient;
 
         private Builder(final Type rootType) {
@@ -302,10 +334,14 @@ public final class ModelContext<T> {
             ApiValidator.notNull(arg, "Null Settings provided to withSettings() method");
 
             if (settings == null) {
-                settings = Settings.from(arg);
+                // locked settings cannot be modified and can be used as is
+                settings = ((InternalSettings) arg).isLocked() ? arg : Settings.from(arg);
             } else {
                 settings = settings.merge(arg);
             }
+            if (arg.get(Keys.SEED) != null) {
+                settingsSeed = arg.get(Keys.SEED);
+            }
             return this;
         }
 
@@ -314,6 +350,11 @@ public final class ModelContext<T> {
             return this;
         }
 
+        public Builder<T> withRandom(final Random random) {
+            this.random = random;
+            return this;
+        }
+
         public Builder<T> lenient() {
             this.lenient = true;
             return this;
@@ -323,6 +364,7 @@ public final class ModelContext<T> {
             rootTypeParameters.add(TypeUtils.getRawType(otherContext.getRootType()));
             maxDepth = otherContext.maxDepth;
             seed = otherContext.seed;
+            settingsSeed = otherContext.settingsSeed;
             settings = otherContext.settings;
             nullableTargets.addAll(otherContext.nullableSelectorMap.getTargetSelectors());
             ignoredTargets.addAll(otherContext.ignoredSelectorMap.getTargetSelectors());
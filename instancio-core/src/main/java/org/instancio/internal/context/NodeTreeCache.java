@@ -0,0 +1,298 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.context;
+
+import org.instancio.Scope;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.selectors.ScopeImpl;
+import org.instancio.internal.selectors.SelectorImpl;
+import org.instancio.internal.util.TypeUtils;
+import org.instancio.settings.Keys;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A process-wide cache of node trees.
+ *
+ * <p>Building a node tree requires reflecting over all the classes
+ * reachable from the root type, which is relatively expensive.
+ * Since node trees are not modified after they have been built,
+ * a tree can be shared by all models with the same root type and
+ * the same data affecting the tree's structure:
+ *
+ * <ul>
+ *   <li>root type and root type parameters</li>
+ *   <li>maximum depth</li>
+ *   <li>{@code ignore()} and {@code subtype()} selectors</li>
+ *   <li>subtype mappings specified via {@code Settings}</li>
+ * </ul>
+ *
+ * <p>Trees are not cached if the model contains predicate selectors
+ * (since these cannot be compared for equality), if there are
+ * {@code TypeResolver} service providers (since these may resolve
+ * subtypes differently over time), or if lazy node expansion is enabled
+ * (since selectors are marked as used as nodes are created during generation).
+ *
+ * <p>Ignored and subtype selectors are marked as used while the tree
+ * is being built. To ensure "unused selector" errors are reported
+ * consistently in strict mode, the selectors used when a tree was
+ * built are recorded and marked as used whenever the tree is reused.
+ *
+ * <p>Cached trees are shared by models created on different threads.
+ * This is safe because nodes of a cached tree are not modified after
+ * the tree has been built: children are created eagerly (lazy trees
+ * are not cached), and the only lazily initialised node state,
+ * the field accessor, is immutable and may be safely re-created
+ * by racing threads.
+ *
+ * <p>To avoid preventing classes from being unloaded, trees are stored
+ * per class using a {@link ClassValue}. The class chosen is the one
+ * loaded by the most specific class loader among the classes the key
+ * refers to (the root type, its type arguments, and classes referenced
+ * by selectors and subtype mappings). The cached tree can only refer
+ * to classes visible from that class loader, therefore a cached tree
+ * does not outlive its class loader. If the referenced classes were
+ * loaded by unrelated class loaders, the tree is not cached.
+ */
+public final class NodeTreeCache {
+
+    private static final int MAX_SIZE_PER_CLASS = 16;
+
+    private static final ClassValue<Map<Key, Entry>> CACHE = new ClassValue<Map<Key, Entry>>() {
+        @Override
+        protected Map<Key, Entry> computeValue(final Class<?> type) {
+            return new LinkedHashMap<Key, Entry>(4, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                    return size() > MAX_SIZE_PER_CLASS;
+                }
+            };
+        }
+    };
+
+    private NodeTreeCache() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns a cached root node for the given context, if one is available.
+     * Otherwise, creates a new root node using the given factory
+     * and caches it for subsequent use.
+     *
+     * @param context         for which to return the root node
+     * @param rootNodeFactory for creating a root node if none is cached
+     * @return root node
+     */
+    public static InternalNode getRootNode(
+            final ModelContext<?> context,
+            final Supplier<InternalNode> rootNodeFactory) {
+
+        final SelectorMap<Boolean> ignored = context.getIgnoredSelectorMap().getSelectorMap();
+        final SelectorMap<Class<?>> subtypes = context.getSubtypeSelectorMap().getSelectorMap();
+
+        if (context.getSettings().get(Keys.LAZY_NODE_EXPANSION_ENABLED)
+                || ignored.hasPredicateSelectors()
+                || subtypes.hasPredicateSelectors()
+                || !context.getServiceProviders().getTypeResolvers().isEmpty()) {
+            return rootNodeFactory.get();
+        }
+
+        final Key key = new Key(context, ignored, subtypes);
+        final Class<?> scopeClass = getScopeClass(key);
+        if (scopeClass == null) {
+            return rootNodeFactory.get();
+        }
+
+        final Map<Key, Entry> cache = CACHE.get(scopeClass);
+        final Entry cached = get(cache, key);
+
+        if (cached != null) {
+            ignored.markUsed(cached.usedIgnored);
+            subtypes.markUsed(cached.usedSubtypes);
+            return cached.rootNode;
+        }
+
+        final InternalNode rootNode = rootNodeFactory.get();
+        put(cache, key, new Entry(rootNode, ignored.getUsedKeys(), subtypes.getUsedKeys()));
+        return rootNode;
+    }
+
+    private static Entry get(final Map<Key, Entry> cache, final Key key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    private static void put(final Map<Key, Entry> cache, final Key key, final Entry entry) {
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+    }
+
+    /**
+     * Returns the class loaded by the most specific class loader
+     * among the classes referenced by the given key.
+     *
+     * @param key to resolve the scope class for
+     * @return scope class, or {@code null} if referenced classes
+     * were loaded by unrelated class loaders
+     */
+    @Nullable
+    private static Class<?> getScopeClass(final Key key) {
+        final Set<Class<?>> classes = new HashSet<>();
+        collectClasses(key.rootType, classes);
+        classes.addAll(key.rootTypeMap.values());
+        classes.addAll(key.subtypeMappingFromSettings.keySet());
+        classes.addAll(key.subtypeMappingFromSettings.values());
+        collectSelectorClasses(key.ignoredSelectors, classes);
+        collectSelectorClasses(key.subtypeSelectors, classes);
+
+        Class<?> scopeClass = TypeUtils.getRawType(key.rootType);
+        for (Class<?> klass : classes) {
+            // the defining class loaders are needed here, not the context class loader
+            final ClassLoader scopeLoader = scopeClass.getClassLoader(); // NOPMD
+            final ClassLoader loader = klass.getClassLoader(); // NOPMD
+            if (isAncestorOrSelf(scopeLoader, loader)) {
+                scopeClass = klass;
+            } else if (!isAncestorOrSelf(loader, scopeLoader)) {
+                return null;
+            }
+        }
+        return scopeClass;
+    }
+
+    private static void collectClasses(final Type type, final Set<Class<?>> classes) {
+        if (type instanceof Class) {
+            classes.add((Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            collectClasses(parameterizedType.getRawType(), classes);
+            collectClasses(parameterizedType.getActualTypeArguments(), classes);
+        } else if (type instanceof GenericArrayType) {
+            collectClasses(((GenericArrayType) type).getGenericComponentType(), classes);
+        } else if (type instanceof WildcardType) {
+            final WildcardType wildcardType = (WildcardType) type;
+            collectClasses(wildcardType.getUpperBounds(), classes);
+            collectClasses(wildcardType.getLowerBounds(), classes);
+        }
+    }
+
+    private static void collectClasses(final Type[] types, final Set<Class<?>> classes) {
+        for (Type type : types) {
+            collectClasses(type, classes);
+        }
+    }
+
+    private static void collectSelectorClasses(final List<? extends Map.Entry<?, ?>> entries, final Set<Class<?>> classes) {
+        for (Map.Entry<?, ?> entry : entries) {
+            final SelectorImpl selector = (SelectorImpl) entry.getKey();
+            if (selector.getTargetClass() != null) {
+                classes.add(selector.getTargetClass());
+            }
+            for (Scope scope : selector.getScopes()) {
+                classes.add(((ScopeImpl) scope).getTargetClass());
+            }
+            if (entry.getValue() instanceof Class) {
+                classes.add((Class<?>) entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Checks whether {@code ancestor} is the same as, or a parent of,
+     * the given class loader. The bootstrap class loader,
+     * represented by {@code null}, is an ancestor of all class loaders.
+     */
+    private static boolean isAncestorOrSelf(@Nullable final ClassLoader ancestor, @Nullable final ClassLoader loader) {
+        if (ancestor == null) {
+            return true;
+        }
+        for (ClassLoader cl = loader; cl != null; cl = cl.getParent()) {
+            if (cl == ancestor) { // NOPMD - class loaders are compared by identity
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Entry {
+        private final InternalNode rootNode;
+        private final Set<Object> usedIgnored;
+        private final Set<Object> usedSubtypes;
+
+        private Entry(final InternalNode rootNode,
+                      final Set<Object> usedIgnored,
+                      final Set<Object> usedSubtypes) {
+            this.rootNode = rootNode;
+            this.usedIgnored = usedIgnored;
+            this.usedSubtypes = usedSubtypes;
+        }
+    }
+
+    private static final class Key {
+        private final Type rootType;
+        private final Map<?, Class<?>> rootTypeMap;
+        private final int maxDepth;
+        private final Map<Class<?>, Class<?>> subtypeMappingFromSettings;
+        private final List<? extends Map.Entry<?, ?>> ignoredSelectors;
+        private final List<? extends Map.Entry<?, ?>> subtypeSelectors;
+        private final int hashCode;
+
+        private Key(final ModelContext<?> context,
+                    final SelectorMap<Boolean> ignored,
+                    final SelectorMap<Class<?>> subtypes) {
+            this.rootType = context.getRootType();
+            this.rootTypeMap = context.getRootTypeMap();
+            this.maxDepth = context.getMaxDepth();
+            this.subtypeMappingFromSettings = new HashMap<>(context.getSettings().getSubtypeMap());
+            this.ignoredSelectors = ignored.getSelectorEntries();
+            this.subtypeSelectors = subtypes.getSelectorEntries();
+            this.hashCode = Objects.hash(rootType, rootTypeMap, maxDepth,
+                    subtypeMappingFromSettings, ignoredSelectors, subtypeSelectors);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key other = (Key) o;
+            return maxDepth == other.maxDepth
+                    && hashCode == other.hashCode
+                    && rootType.equals(other.rootType)
+                    && rootTypeMap.equals(other.rootTypeMap)
+                    && subtypeMappingFromSettings.equals(other.subtypeMappingFromSettings)
+                    && ignoredSelectors.equals(other.ignoredSelectors)
+                    && subtypeSelectors.equals(other.subtypeSelectors);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.context;
+
+import org.instancio.internal.selectors.PredicateSelectorImpl;
+import org.instancio.internal.selectors.SelectorTargetKind;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of predicate selectors used for finding selectors
+ * that match a given field or class.
+ * <p>
+ * Selectors created using a builder, for example
+ * {@code fields().annotated(Foo.class)}, are bucketed by the field name,
+ * declaring class, or annotation they require. Only selectors in the buckets
+ * relevant to a target, and selectors that could not be indexed (such as
+ * custom predicates), are evaluated. Results are memoized per field and class.
+ *
+ * @param <E> type of item associated with a selector
+ */
+final class PredicateSelectorIndex<E> {
+
+    private static final Comparator<Indexed<?>> BY_ORDINAL = Comparator.comparingInt(e -> e.ordinal);
+
+    private final List<Indexed<E>> unindexedFieldSelectors = new ArrayList<>(0);
+    private final List<Indexed<E>> unindexedClassSelectors = new ArrayList<>(0);
+    private final Map<String, List<Indexed<E>>> fieldSelectorsByName = new HashMap<>(0);
+    private final Map<Class<?>, List<Indexed<E>>> fieldSelectorsByDeclaringClass = new HashMap<>(0);
+    private final Map<Class<?>, List<Indexed<E>>> fieldSelectorsByAnnotation = new HashMap<>(0);
+    private final Map<Class<?>, List<Indexed<E>>> classSelectorsByAnnotation = new HashMap<>(0);
+    private final Map<Field, List<E>> fieldMatches = new HashMap<>();
+    private final Map<Class<?>, List<E>> classMatches = new HashMap<>();
+    private int size;
+
+    private static final class Indexed<E> {
+        private final int ordinal;
+        private final PredicateSelectorImpl selector;
+        private final E item;
+
+        private Indexed(final int ordinal, final PredicateSelectorImpl selector, final E item) {
+            this.ordinal = ordinal;
+            this.selector = selector;
+            this.item = item;
+        }
+    }
+
+    void add(final PredicateSelectorImpl selector, final E item) {
+        fieldMatches.clear();
+        classMatches.clear();
+
+        final Indexed<E> indexed = new Indexed<>(size++, selector, item);
+        final PredicateSelectorImpl.IndexKeys keys = selector.getIndexKeys();
+
+        if (selector.getSelectorTargetKind() == SelectorTargetKind.FIELD) {
+            if (keys.getFieldName() != null) {
+                addTo(fieldSelectorsByName, keys.getFieldName(), indexed);
+            } else if (keys.getDeclaringClass() != null) {
+                addTo(fieldSelectorsByDeclaringClass, keys.getDeclaringClass(), indexed);
+            } else if (keys.getAnnotation() != null) {
+                addTo(fieldSelectorsByAnnotation, keys.getAnnotation(), indexed);
+            } else {
+                unindexedFieldSelectors.add(indexed);
+            }
+        } else {
+            if (keys.getAnnotation() != null) {
+                addTo(classSelectorsByAnnotation, keys.getAnnotation(), indexed);
+            } else {
+                unindexedClassSelectors.add(indexed);
+            }
+        }
+    }
+
+    /**
+     * Returns items of field selectors matching the given field
+     * in the order they were added.
+     *
+     * @param field to match
+     * @return matching items, or an empty list if none found
+     */
+    List<E> getFieldMatches(final Field field) {
+        if (field == null || size == 0) {
+            return Collections.emptyList();
+        }
+        return fieldMatches.computeIfAbsent(field, this::findFieldMatches);
+    }
+
+    /**
+     * Returns items of class selectors matching the given class
+     * in the order they were added.
+     *
+     * @param klass to match
+     * @return matching items, or an empty list if none found
+     */
+    List<E> getClassMatches(final Class<?> klass) {
+        if (klass == null || size == 0) {
+            return Collections.emptyList();
+        }
+        return classMatches.computeIfAbsent(klass, this::findClassMatches);
+    }
+
+    private List<E> findFieldMatches(final Field field) {
+        final List<Indexed<E>> candidates = new ArrayList<>(unindexedFieldSelectors);
+        candidates.addAll(fieldSelectorsByName.getOrDefault(field.getName(), Collections.emptyList()));
+        candidates.addAll(fieldSelectorsByDeclaringClass.getOrDefault(field.getDeclaringClass(), Collections.emptyList()));
+        addAnnotationCandidates(fieldSelectorsByAnnotation, field.getDeclaredAnnotations(), candidates);
+
+        final List<E> results = new ArrayList<>(candidates.size());
+        candidates.sort(BY_ORDINAL);
+        for (Indexed<E> candidate : candidates) {
+            if (candidate.selector.getFieldPredicate().test(field)) {
+                results.add(candidate.item);
+            }
+        }
+        return results.isEmpty() ? Collections.emptyList() : results;
+    }
+
+    private List<E> findClassMatches(final Class<?> klass) {
+        final List<Indexed<E>> candidates = new ArrayList<>(unindexedClassSelectors);
+        addAnnotationCandidates(classSelectorsByAnnotation, klass.getDeclaredAnnotations(), candidates);
+
+        final List<E> results = new ArrayList<>(candidates.size());
+        candidates.sort(BY_ORDINAL);
+        for (Indexed<E> candidate : candidates) {
+            if (candidate.selector.getClassPredicate().test(klass)) {
+                results.add(candidate.item);
+            }
+        }
+        return results.isEmpty() ? Collections.emptyList() : results;
+    }
+
+    private static <E> void addAnnotationCandidates(
+            final Map<Class<?>, List<Indexed<E>>> selectorsByAnnotation,
+            final Annotation[] annotations,
+            final List<Indexed<E>> candidates) {
+
+        if (selectorsByAnnotation.isEmpty()) {
+            return;
+        }
+        for (Annotation annotation : annotations) {
+            final List<Indexed<E>> selectors = selectorsByAnnotation.get(annotation.annotationType());
+            if (selectors != null) {
+                candidates.addAll(selectors);
+            }
+        }
+    }
+
+    private static <K, E> void addTo(final Map<K, List<Indexed<E>>> map, final K key, final Indexed<E> indexed) {
+        map.computeIfAbsent(key, k -> new ArrayList<>(3)).add(indexed);
+    }
+}
@@ -25,15 +25,14 @@ import org.instancio.internal.selectors.PrimitiveAndWrapperSelectorImpl;
 import org.instancio.internal.selectors.ScopeImpl;
 import org.instancio.internal.selectors.ScopelessSelector;
 import org.instancio.internal.selectors.SelectorImpl;
-import org.instancio.internal.selectors.SelectorTargetKind;
 import org.instancio.internal.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
-import java.util.ArrayDeque;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -53,7 +52,14 @@ import static java.util.stream.Collectors.joining;
  * <p>
  * Although this class is named a 'Map', it also contains a List of predicate selectors.
  * Since predicate matches can only be resolved by applying the predicate to a target,
- * a map cannot be used like with regular selectors.
+ * a map cannot be used like with regular selectors. To avoid evaluating every
+ * predicate against every node, predicate selectors are bucketed using
+ * {@link PredicateSelectorIndex}.
+ * <p>
+ * Since a given node always resolves to the same selectors, results
+ * are resolved once per node and memoized. Selectors are marked
+ * as used when a node is resolved for the first time. The memoized
+ * results are discarded if a new selector is added.
  *
  * @param <V> value type
  */
@@ -68,6 +74,9 @@ final class SelectorMap<V> {
     private final Map<? super TargetSelector, V> selectors = new LinkedHashMap<>(0);
     private final Set<? super TargetSelector> unusedSelectors = new LinkedHashSet<>(0);
     private final List<PredicateSelectorEntry<V>> predicateSelectors = new ArrayList<>(0);
+    private final PredicateSelectorIndex<PredicateSelectorEntry<V>> predicateSelectorIndex = new PredicateSelectorIndex<>();
+    private final Map<InternalNode, Optional<V>> resolvedValue = new IdentityHashMap<>();
+    private final Map<InternalNode, List<V>> resolvedValues = new IdentityHashMap<>();
 
     private static final class PredicateSelectorEntry<V> {
         private final PredicateSelectorImpl predicateSelector;
@@ -94,6 +103,9 @@ final class SelectorMap<V> {
     }
 
     void put(final TargetSelector targetSelector, final V value) {
+        resolvedValue.clear();
+        resolvedValues.clear();
+
         if (targetSelector instanceof SelectorImpl) {
             final SelectorImpl selector = (SelectorImpl) targetSelector;
 
@@ -113,7 +125,9 @@ final class SelectorMap<V> {
             scopelessSelectors.computeIfAbsent(scopeless, selectorList -> new ArrayList<>(3)).add(selector);
         } else if (targetSelector instanceof PredicateSelector) {
             final PredicateSelectorImpl selector = (PredicateSelectorImpl) targetSelector;
-            predicateSelectors.add(new PredicateSelectorEntry<>(selector, value));
+            final PredicateSelectorEntry<V> entry = new PredicateSelectorEntry<>(selector, value);
+            predicateSelectors.add(entry);
+            predicateSelectorIndex.add(selector, entry);
         }
     }
 
@@ -127,6 +141,48 @@ final class SelectorMap<V> {
         return unused;
     }
 
+    private boolean isEmpty() {
+        return selectors.isEmpty() && predicateSelectors.isEmpty();
+    }
+
+    boolean hasPredicateSelectors() {
+        return !predicateSelectors.isEmpty();
+    }
+
+    /**
+     * Returns regular (non-predicate) selectors and their values
+     * in the order they were added.
+     *
+     * @return selector entries
+     */
+    List<Map.Entry<Object, V>> getSelectorEntries() {
+        final List<Map.Entry<Object, V>> entries = new ArrayList<>(selectors.size());
+        for (Map.Entry<? super TargetSelector, V> entry : selectors.entrySet()) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns regular (non-predicate) selectors that have been used.
+     *
+     * @return used selectors
+     */
+    Set<Object> getUsedKeys() {
+        final Set<Object> used = new HashSet<>(selectors.keySet());
+        used.removeAll(unusedSelectors);
+        return used;
+    }
+
+    /**
+     * Marks given selectors as used.
+     *
+     * @param usedSelectors selectors to mark as used
+     */
+    void markUsed(final Set<Object> usedSelectors) {
+        unusedSelectors.removeAll(usedSelectors);
+    }
+
     /**
      * Returns last value for given node (in the order values were added).
      * <p>
@@ -138,6 +194,18 @@ final class SelectorMap<V> {
      * @return value for given node, if present
      */
     Optional<V> getValue(final InternalNode node) {
+        if (isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<V> value = resolvedValue.get(node);
+        if (value == null) { // NOSONAR
+            value = resolveValue(node);
+            resolvedValue.put(node, value);
+        }
+        return value;
+    }
+
+    private Optional<V> resolveValue(final InternalNode node) {
         final List<SelectorImpl> withParent = getSelectorsWithParent(node, getCandidates(node), FIND_ONE_ONLY);
 
         if (!withParent.isEmpty()) {
@@ -150,30 +218,20 @@ final class SelectorMap<V> {
     }
 
     private Optional<V> getPredicateSelectorMatch(final InternalNode node) {
-        PredicateSelectorEntry<V> classPredicate = null;
-
-        // If there's a field predicate anywhere in the list, then return the last one found.
-        // Otherwise, return the last class predicate.
-        for (int i = predicateSelectors.size() - 1; i >= 0; i--) {
-            final PredicateSelectorEntry<V> entry = predicateSelectors.get(i);
-            if (entry.predicateSelector.getSelectorTargetKind() == SelectorTargetKind.FIELD) {
-                if (isPredicateMatch(node, entry)) {
-                    entry.matched = true;
-                    return Optional.of(entry.value);
-                }
-            } else if (classPredicate == null // we want to return the first one that matches
-                    && entry.predicateSelector.getSelectorTargetKind() == SelectorTargetKind.CLASS
-                    && isPredicateMatch(node, entry)) {
-                classPredicate = entry;
-            }
+        // If there's a field predicate match, then return the last one found.
+        // Otherwise, return the last class predicate match.
+        final List<PredicateSelectorEntry<V>> fieldMatches = predicateSelectorIndex.getFieldMatches(node.getField());
+        final List<PredicateSelectorEntry<V>> matches = fieldMatches.isEmpty()
+                ? predicateSelectorIndex.getClassMatches(node.getTargetClass())
+                : fieldMatches;
+
+        if (matches.isEmpty()) {
+            return Optional.empty();
         }
 
-        if (classPredicate != null) {
-            classPredicate.matched = true;
-            return Optional.of(classPredicate.value);
-        }
-
-        return Optional.empty();
+        final PredicateSelectorEntry<V> entry = matches.get(matches.size() - 1);
+        entry.matched = true;
+        return Optional.of(entry.value);
     }
 
     /**
@@ -183,6 +241,18 @@ final class SelectorMap<V> {
      * @return all values for given node, or an empty list if none found
      */
     List<V> getValues(final InternalNode node) {
+        if (isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<V> values = resolvedValues.get(node);
+        if (values == null) {
+            values = resolveValues(node);
+            resolvedValues.put(node, values);
+        }
+        return values;
+    }
+
+    private List<V> resolveValues(final InternalNode node) {
         final List<SelectorImpl> selectorsWithParent = getSelectorsWithParent(node, getCandidates(node), !FIND_ONE_ONLY);
         final List<V> values = new ArrayList<>(selectorsWithParent.size() + predicateSelectors.size());
 
@@ -191,20 +261,41 @@ final class SelectorMap<V> {
             values.add(this.selectors.get(s));
         }
 
-        for (PredicateSelectorEntry<V> entry : predicateSelectors) {
-            if (isPredicateMatch(node, entry)) {
-                entry.matched = true;
-                values.add(entry.value);
-            }
+        for (PredicateSelectorEntry<V> entry : getPredicateSelectorMatches(node)) {
+            entry.matched = true;
+            values.add(entry.value);
         }
 
-        return values;
+        return values.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(values);
     }
 
-    private static boolean isPredicateMatch(final InternalNode node, final PredicateSelectorEntry<?> entry) {
-        return entry.predicateSelector.getSelectorTargetKind() == SelectorTargetKind.FIELD
-                ? entry.predicateSelector.getFieldPredicate().test(node.getField())
-                : entry.predicateSelector.getClassPredicate().test(node.getTargetClass());
+    private List<PredicateSelectorEntry<V>> getPredicateSelectorMatches(final InternalNode node) {
+        final List<PredicateSelectorEntry<V>> fieldMatches = predicateSelectorIndex.getFieldMatches(node.getField());
+        final List<PredicateSelectorEntry<V>> classMatches = predicateSelectorIndex.getClassMatches(node.getTargetClass());
+
+        if (fieldMatches.isEmpty()) {
+            return classMatches;
+        }
+        if (classMatches.isEmpty()) {
+            return fieldMatches;
+        }
+
+        // Preserve the order in which the selectors were added
+        final List<PredicateSelectorEntry<V>> matches = new ArrayList<>(fieldMatches.size() + classMatches.size());
+        int f = 0;
+        int c = 0;
+        // Entries are compared by identity since both lists
+        // contain the same instances as 'predicateSelectors'
+        for (PredicateSelectorEntry<V> entry : predicateSelectors) {
+            if (f < fieldMatches.size() && fieldMatches.get(f) == entry) { // NOPMD
+                matches.add(entry);
+                f++;
+            } else if (c < classMatches.size() && classMatches.get(c) == entry) { // NOPMD
+                matches.add(entry);
+                c++;
+            }
+        }
+        return matches;
     }
 
     private void markUsed(final SelectorImpl selector) {
@@ -277,21 +368,23 @@ final class SelectorMap<V> {
         if (candidate.getScopes().isEmpty()) {
             return true;
         }
-        final Deque<Scope> deq = new ArrayDeque<>(candidate.getScopes());
-        ScopeImpl scope = (ScopeImpl) deq.removeLast();
+        final List<Scope> scopes = candidate.getScopes();
+        int scopeIdx = scopes.size() - 1;
+        ScopeImpl scope = (ScopeImpl) scopes.get(scopeIdx);
         InternalNode node = targetNode;
 
+        // Match scopes from last to first, walking up the node hierarchy
         while (node != null) {
-            if (scope.isFieldScope()) {
-                if (scope.resolveField().equals(node.getField())) {
-                    scope = (ScopeImpl) deq.pollLast();
-                }
-            } else if (node.getRawType().equals(scope.getTargetClass())) {
-                scope = (ScopeImpl) deq.pollLast();
-            }
+            final boolean matched = scope.isFieldScope()
+                    ? scope.resolveField().equals(node.getField())
+                    : node.getRawType().equals(scope.getTargetClass());
 
-            if (scope == null) { // All scopes have been matched
-                return true;
+            if (matched) {
+                if (scopeIdx == 0) { // All scopes have been matched
+                    return true;
+                }
+                scopeIdx--;
+                scope = (ScopeImpl) scopes.get(scopeIdx);
             }
             node = node.getParent();
         }
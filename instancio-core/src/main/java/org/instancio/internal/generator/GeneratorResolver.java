@@ -29,11 +29,21 @@ import org.instancio.spi.GeneratorProvider;
 import org.instancio.spi.InstancioServiceProvider;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.instancio.internal.generator.GeneratorUtil.instantiateInternalGenerator;
 
+/**
+ * Resolves generators for nodes.
+ *
+ * <p>Generators provided via SPI are resolved on every invocation.
+ * Built-in generators are created once per node and then reused,
+ * since their configuration depends only on the node. This class
+ * is not thread-safe.
+ */
 public class GeneratorResolver {
 
     private static final List<GeneratorProvider> DEPRECATED_PROVIDERS =
@@ -41,6 +51,7 @@ public class GeneratorResolver {
 
     private final GeneratorContext context;
     private final GeneratorProviderFacade generatorProviderFacade;
+    private final Map<InternalNode, Generator<?>> builtInGenerators = new IdentityHashMap<>();
 
     public GeneratorResolver(
             final GeneratorContext context,
@@ -68,14 +79,24 @@ public class GeneratorResolver {
 
     @SuppressWarnings("all")
     public Optional<Generator<?>> get(final InternalNode node) {
-        final Class<?> klass = node.getTargetClass();
-
         // Generators provided by SPI take precedence over built-in generators
         final Optional<Generator<?>> spiGenerator = generatorProviderFacade.getGenerator(node);
         if (spiGenerator.isPresent()) {
             return spiGenerator;
         }
 
+        Generator<?> generator = builtInGenerators.get(node);
+        if (generator == null) {
+            generator = resolveBuiltInGenerator(node.getTargetClass());
+            if (generator != null) {
+                builtInGenerators.put(node, generator);
+            }
+        }
+        return Optional.ofNullable(generator);
+    }
+
+    @Nullable
+    private Generator<?> resolveBuiltInGenerator(final Class<?> klass) {
         Generator<?> generator = getBuiltInGenerator(klass);
 
         if (generator == null) {
@@ -87,7 +108,7 @@ public class GeneratorResolver {
                 generator = getGeneratorForLegacyClass(klass);
             }
         }
-        return Optional.ofNullable(generator);
+        return generator;
     }
 
     /**
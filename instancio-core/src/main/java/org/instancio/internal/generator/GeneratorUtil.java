@@ -24,18 +24,30 @@ import org.instancio.spi.InstancioSpiException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
 final class GeneratorUtil {
 
+    private static final MethodType INTERNAL_GENERATOR_CONSTRUCTOR_TYPE =
+            MethodType.methodType(Generator.class, GeneratorContext.class);
+
+    // Constructors of internal generators, resolved once per generator class
+    private static final Map<Class<?>, MethodHandle> INTERNAL_GENERATOR_CONSTRUCTORS = new ConcurrentHashMap<>();
+
     private GeneratorUtil() {
         // non-instantiable
     }
 
     /**
      * Instantiates internal generator class using the expected constructor.
+     * The constructor is resolved once per generator class and cached.
      */
     @Nullable
     static Generator<?> instantiateInternalGenerator(
@@ -43,9 +55,11 @@ final class GeneratorUtil {
             @NotNull final GeneratorContext context) {
 
         try {
-            final Constructor<?> constructor = generatorClass.getConstructor(GeneratorContext.class);
-            return (Generator<?>) constructor.newInstance(context);
-        } catch (final Exception ex) {
+            final MethodHandle constructor = INTERNAL_GENERATOR_CONSTRUCTORS.computeIfAbsent(
+                    generatorClass, GeneratorUtil::findInternalGeneratorConstructor);
+
+            return (Generator<?>) constructor.invokeExact(context);
+        } catch (final Throwable ex) { //NOPMD
             ExceptionHandler.conditionalFailOnError(() -> {
                 throw new InstancioException("Error instantiating generator " + generatorClass, ex);
             });
@@ -53,6 +67,16 @@ final class GeneratorUtil {
         }
     }
 
+    private static MethodHandle findInternalGeneratorConstructor(final Class<?> generatorClass) {
+        try {
+            return MethodHandles.lookup()
+                    .findConstructor(generatorClass, MethodType.methodType(void.class, GeneratorContext.class))
+                    .asType(INTERNAL_GENERATOR_CONSTRUCTOR_TYPE);
+        } catch (ReflectiveOperationException ex) {
+            throw new InstancioException("Error resolving constructor of generator " + generatorClass, ex);
+        }
+    }
+
     /**
      * Instantiates generator class provided via SPI.
      */
@@ -45,10 +45,21 @@ public class StringGenerator extends AbstractGenerator<String> implements String
      */
     private Generator<?> delegate;
 
+    /**
+     * Number of fraction digits for internal use only. It is used to support
+     * Bean Validation. If set, a decimal point followed by random digits
+     * is appended to each generated value.
+     */
+    private int fractionDigits;
+
     public void setDelegate(final Generator<?> delegate) {
         this.delegate = delegate;
     }
 
+    public void setFractionDigits(final int fractionDigits) {
+        this.fractionDigits = fractionDigits;
+    }
+
     public StringGenerator() {
         this(Global.generatorContext());
     }
@@ -200,6 +211,9 @@ public class StringGenerator extends AbstractGenerator<String> implements String
         if (prefix != null) {
             result = prefix + result;
         }
+        if (fractionDigits > 0) {
+            result = result + "." + random.digits(fractionDigits);
+        }
         if (suffix != null) {
             result = result + suffix;
         }
@@ -81,7 +81,7 @@ public class TextPatternGenerator extends AbstractGenerator<String>
                 } else if (tag == UCASE_CHAR) {
                     res.append(random.upperCaseCharacter());
                 } else if (tag == DIGIT) {
-                    res.append(random.digits(1));
+                    res.append(random.characterRange('0', '9'));
                 } else if (tag == HASH) {
                     res.append(HASH);
                 } else {
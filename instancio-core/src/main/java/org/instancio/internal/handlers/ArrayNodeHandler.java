@@ -23,12 +23,23 @@ import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.nodes.InternalNode;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 public class ArrayNodeHandler implements NodeHandler {
 
     private final GeneratorResolver generatorResolver;
     private final ModelContext<?> context;
     private final GeneratorSpecProcessor beanValidationProcessors;
 
+    /**
+     * Generators that have been customised using Bean Validation annotations.
+     * Array generators are cached per node by the resolver, therefore
+     * constraints are applied only once, when the generator is first used
+     * for a node.
+     */
+    private final Map<InternalNode, Generator<?>> configuredGenerators = new IdentityHashMap<>();
+
     public ArrayNodeHandler(
             final ModelContext<?> context,
             final GeneratorResolver generatorResolver,
@@ -46,7 +57,11 @@ public class ArrayNodeHandler implements NodeHandler {
             final Generator<?> generator = generatorResolver.get(node).orElseThrow(
                     () -> new IllegalStateException("Unable to get array generator for node: " + node));
 
-            beanValidationProcessors.process(generator, node.getTargetClass(), node.getField());
+            if (configuredGenerators.get(node) != generator) { // NOPMD - compared by identity
+                beanValidationProcessors.process(generator, node.getTargetClass(), node.getField());
+                configuredGenerators.put(node, generator);
+            }
+
             final Object arrayObject = generator.generate(context.getRandom());
             return GeneratorResult.create(arrayObject, generator.hints());
         }
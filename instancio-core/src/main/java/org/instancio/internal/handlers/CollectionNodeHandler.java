@@ -24,11 +24,14 @@ import org.instancio.internal.nodes.InternalNode;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 public class CollectionNodeHandler implements NodeHandler {
 
     private final ModelContext<?> context;
     private final GeneratorSpecProcessor beanValidationProcessors;
+    private final Map<InternalNode, CollectionGenerator<?>> generators = new IdentityHashMap<>();
 
     public CollectionNodeHandler(
             final ModelContext<?> context,
@@ -42,13 +45,20 @@ public class CollectionNodeHandler implements NodeHandler {
     @Override
     public GeneratorResult getResult(@NotNull final InternalNode node) {
         if (Collection.class.isAssignableFrom(node.getTargetClass())) {
-            final CollectionGenerator<?> generator = new CollectionGenerator<>(
-                    new GeneratorContext(context.getSettings(), context.getRandom()));
-
-            generator.subtype(node.getTargetClass());
-            beanValidationProcessors.process(generator, node.getTargetClass(), node.getField());
+            final CollectionGenerator<?> generator = generators.computeIfAbsent(node, this::createGenerator);
             return GeneratorResult.create(generator.generate(context.getRandom()), generator.hints());
         }
         return GeneratorResult.emptyResult();
     }
+
+    private CollectionGenerator<?> createGenerator(final InternalNode node) {
+        final CollectionGenerator<?> generator = new CollectionGenerator<>(
+                new GeneratorContext(context.getSettings(), context.getRandom()));
+
+        generator.subtype(node.getTargetClass());
+
+        // applied once, since the generator is reused for every value generated for the node
+        beanValidationProcessors.process(generator, node.getTargetClass(), node.getField());
+        return generator;
+    }
 }
@@ -23,12 +23,14 @@ import org.instancio.internal.generator.util.MapGenerator;
 import org.instancio.internal.nodes.InternalNode;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 public class MapNodeHandler implements NodeHandler {
 
     private final ModelContext<?> context;
     private final GeneratorSpecProcessor beanValidationProcessors;
+    private final Map<InternalNode, MapGenerator<?, ?>> generators = new IdentityHashMap<>();
 
     public MapNodeHandler(
             final ModelContext<?> context,
@@ -42,13 +44,18 @@ public class MapNodeHandler implements NodeHandler {
     @Override
     public GeneratorResult getResult(@NotNull final InternalNode node) {
         if (Map.class.isAssignableFrom(node.getTargetClass())) {
-            final MapGenerator<?, ?> generator = new MapGenerator<>(
-                    new GeneratorContext(context.getSettings(), context.getRandom()));
-
-            generator.subtype(node.getTargetClass());
-            beanValidationProcessors.process(generator, node.getTargetClass(), node.getField());
+            final MapGenerator<?, ?> generator = generators.computeIfAbsent(node, this::createGenerator);
             return GeneratorResult.create(generator.generate(context.getRandom()), generator.hints());
         }
         return GeneratorResult.emptyResult();
     }
+
+    private MapGenerator<?, ?> createGenerator(final InternalNode node) {
+        final MapGenerator<?, ?> generator = new MapGenerator<>(
+                new GeneratorContext(context.getSettings(), context.getRandom()));
+
+        generator.subtype(node.getTargetClass());
+        beanValidationProcessors.process(generator, node.getTargetClass(), node.getField());
+        return generator;
+    }
 }
@@ -30,6 +30,8 @@ import org.instancio.internal.instantiation.Instantiator;
 import org.instancio.internal.nodes.InternalNode;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
@@ -40,6 +42,13 @@ public class UserSuppliedGeneratorHandler implements NodeHandler {
     private final GeneratorResolver generatorResolver;
     private final Instantiator instantiator;
 
+    /**
+     * Delegates that have been configured using the user-supplied generator.
+     * Since built-in generators are cached per node by the resolver,
+     * a delegate is configured only once, when it is first used for a node.
+     */
+    private final Map<InternalNode, Generator<?>> configuredDelegates = new IdentityHashMap<>();
+
     public UserSuppliedGeneratorHandler(final ModelContext<?> modelContext,
                                         final GeneratorResolver generatorResolver,
                                         final Instantiator instantiator) {
@@ -101,9 +110,11 @@ public class UserSuppliedGeneratorHandler implements NodeHandler {
         final Generator<?> delegate = generatorResolver.get(node)
                 .orElse(new InstantiatingGenerator(instantiator, forClass));
 
-        if (delegate instanceof AbstractGenerator<?>) {
+        if (delegate instanceof AbstractGenerator<?>
+                && configuredDelegates.get(node) != delegate) { // NOPMD - compared by identity
             final boolean nullable = ((AbstractGenerator<?>) generator).isNullable();
             ((AbstractGenerator<?>) delegate).nullable(nullable);
+            configuredDelegates.put(node, delegate);
         }
         return Optional.of(new GeneratorDecorator(delegate, hints));
     }
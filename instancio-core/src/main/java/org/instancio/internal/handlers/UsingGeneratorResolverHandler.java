@@ -26,6 +26,8 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public class UsingGeneratorResolverHandler implements NodeHandler {
@@ -36,6 +38,14 @@ public class UsingGeneratorResolverHandler implements NodeHandler {
     private final GeneratorSpecProcessor beanValidationProcessors;
     private final GeneratedValuePostProcessor stringPostProcessor;
 
+    /**
+     * Generators that have been customised using Bean Validation annotations.
+     * Since built-in generators are cached per node by the resolver, constraints
+     * are applied only once, when the generator is first used for a node,
+     * rather than being re-applied to the same generator for every value.
+     */
+    private final Map<InternalNode, Generator<?>> configuredGenerators = new IdentityHashMap<>();
+
     public UsingGeneratorResolverHandler(
             final ModelContext<?> context,
             final GeneratorResolver generatorResolver,
@@ -48,7 +58,6 @@ public class UsingGeneratorResolverHandler implements NodeHandler {
         this.beanValidationProcessors = beanValidationProcessors;
     }
 
-
     @NotNull
     @Override
     public GeneratorResult getResult(@NotNull final InternalNode node) {
@@ -58,7 +67,10 @@ public class UsingGeneratorResolverHandler implements NodeHandler {
             final Class<?> targetClass = node.getTargetClass();
 
             LOG.trace("Using '{}' generator to create '{}'", generator.getClass().getSimpleName(), targetClass.getName());
-            beanValidationProcessors.process(generator, node.getTargetClass(), node.getField());
+            if (configuredGenerators.get(node) != generator) { // NOPMD - compared by identity
+                beanValidationProcessors.process(generator, node.getTargetClass(), node.getField());
+                configuredGenerators.put(node, generator);
+            }
 
             final Object value = generator.generate(context.getRandom());
             final Object processed = stringPostProcessor.process(value, node, generator);
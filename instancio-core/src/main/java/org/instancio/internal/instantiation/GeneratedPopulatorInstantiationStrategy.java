@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.instantiation;
+
+import org.instancio.internal.populator.Populators;
+import org.instancio.spi.Populator;
+
+import java.util.Optional;
+
+/**
+ * Instantiates classes using populators generated by the annotation processor.
+ */
+class GeneratedPopulatorInstantiationStrategy implements InstantiationStrategy {
+
+    @Override
+    public <T> T createInstance(final Class<T> klass) {
+        final Optional<Populator> populator = Populators.get(klass);
+        return populator.isPresent() ? klass.cast(populator.get().newInstance()) : null;
+    }
+}
@@ -23,16 +23,31 @@ import org.instancio.spi.InstancioServiceProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Instantiates classes by trying each strategy in order until
+ * one succeeds. The built-in strategy that succeeds is remembered
+ * per class and used first for subsequent instances, so that strategies
+ * known to fail for a class are not retried every time.
+ *
+ * <p>This class is not thread-safe.
+ */
 public class Instantiator {
     private static final Logger LOG = LoggerFactory.getLogger(Instantiator.class);
 
-    private final InstantiationStrategy[] strategies;
+    private final InstantiationStrategy serviceProviderStrategy;
+    private final boolean hasServiceProviders;
+    private final InstantiationStrategy[] builtInStrategies;
+    private final Map<Class<?>, InstantiationStrategy> resolvedStrategies = new HashMap<>();
 
     public Instantiator(final List<ProviderEntry<InstancioServiceProvider.TypeInstantiator>> providerEntries) {
-        strategies = new InstantiationStrategy[]{
-                new ServiceProviderInstantiationStrategy(providerEntries),
+        serviceProviderStrategy = new ServiceProviderInstantiationStrategy(providerEntries);
+        hasServiceProviders = !providerEntries.isEmpty();
+        builtInStrategies = new InstantiationStrategy[]{
+                new GeneratedPopulatorInstantiationStrategy(),
                 new NoArgumentConstructorInstantiationStrategy(),
                 new LeastArgumentsConstructorInstantiationStrategy(),
                 UnsafeInstantiationStrategy.getInstance(),
@@ -41,9 +56,26 @@ public class Instantiator {
     }
 
     public <T> T instantiate(final Class<T> klass) {
-        for (InstantiationStrategy strategy : strategies) {
+        // service providers take precedence over built-in strategies
+        if (hasServiceProviders) {
+            final T instance = createInstance(klass, serviceProviderStrategy);
+            if (instance != null) {
+                return instance;
+            }
+        }
+
+        final InstantiationStrategy resolved = resolvedStrategies.get(klass);
+        if (resolved != null) {
+            final T instance = createInstance(klass, resolved);
+            if (instance != null) {
+                return instance;
+            }
+        }
+
+        for (InstantiationStrategy strategy : builtInStrategies) {
             final T instance = createInstance(klass, strategy);
             if (instance != null) {
+                resolvedStrategies.put(klass, strategy);
                 return instance;
             }
         }
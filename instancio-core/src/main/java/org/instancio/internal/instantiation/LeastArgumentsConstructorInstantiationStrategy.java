@@ -20,7 +20,6 @@ import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.Sonar;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Optional;
@@ -31,25 +30,35 @@ import java.util.Optional;
  */
 class LeastArgumentsConstructorInstantiationStrategy implements InstantiationStrategy {
 
+    private static final ClassValue<Optional<Constructor<?>>> CONSTRUCTORS =
+            new ClassValue<Optional<Constructor<?>>>() {
+                @Override
+                @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+                protected Optional<Constructor<?>> computeValue(final Class<?> klass) {
+                    final Optional<Constructor<?>> optCtor = Arrays.stream(klass.getDeclaredConstructors())
+                            .filter(c -> c.getParameterCount() > 0)
+                            .min(Comparator.comparingInt(Constructor::getParameterCount));
+
+                    optCtor.ifPresent(c -> c.setAccessible(true));
+                    return optCtor;
+                }
+            };
+
     @Override
-    @SuppressWarnings({"unchecked", Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED})
+    @SuppressWarnings("unchecked")
     public <T> T createInstance(final Class<T> klass) {
-        final Optional<Constructor<?>> optCtor = Arrays.stream(klass.getDeclaredConstructors())
-                .filter(c -> c.getParameterCount() > 0)
-                .min(Comparator.comparingInt(Constructor::getParameterCount));
+        final Optional<Constructor<?>> optCtor = CONSTRUCTORS.get(klass);
 
         if (!optCtor.isPresent()) {
             return null;
         }
 
         final Constructor<?> constructor = optCtor.get();
-        constructor.setAccessible(true);
-
-        final Parameter[] params = constructor.getParameters();
-        final Object[] args = new Object[params.length];
+        final Class<?>[] paramTypes = constructor.getParameterTypes();
+        final Object[] args = new Object[paramTypes.length];
 
         for (int i = 0; i < args.length; i++) {
-            args[i] = ObjectUtils.defaultValue(params[i].getType());
+            args[i] = ObjectUtils.defaultValue(paramTypes[i]);
         }
 
         try {
@@ -18,18 +18,31 @@ package org.instancio.internal.instantiation;
 import org.instancio.internal.util.Sonar;
 
 import java.lang.reflect.Constructor;
+import java.util.Optional;
 
 class NoArgumentConstructorInstantiationStrategy implements InstantiationStrategy {
 
+    private static final ClassValue<Optional<Constructor<?>>> DEFAULT_CONSTRUCTORS =
+            new ClassValue<Optional<Constructor<?>>>() {
+                @Override
+                @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+                protected Optional<Constructor<?>> computeValue(final Class<?> klass) {
+                    final Constructor<?> ctor = getDefaultConstructor(klass);
+                    if (ctor != null) {
+                        ctor.setAccessible(true);
+                    }
+                    return Optional.ofNullable(ctor);
+                }
+            };
+
     @Override
-    @SuppressWarnings({"unchecked", Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED})
+    @SuppressWarnings("unchecked")
     public <T> T createInstance(final Class<T> klass) {
         try {
-            final Constructor<?> ctor = getDefaultConstructor(klass);
+            final Constructor<?> ctor = DEFAULT_CONSTRUCTORS.get(klass).orElse(null);
             if (ctor == null) {
                 return null;
             }
-            ctor.setAccessible(true);
             return (T) ctor.newInstance();
         } catch (Exception ex) {
             throw new InstantiationStrategyException("Error instantiating " + klass, ex);
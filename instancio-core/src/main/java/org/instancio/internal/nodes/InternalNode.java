@@ -15,6 +15,7 @@
  */
 package org.instancio.internal.nodes;
 
+import org.instancio.internal.util.FieldAccessor;
 import org.instancio.internal.util.Format;
 import org.instancio.internal.util.Verify;
 import org.jetbrains.annotations.Nullable;
@@ -46,7 +47,17 @@ public final class InternalNode {
     private final TypeMap typeMap;
     private final NodeKind nodeKind;
     private final int depth;
-    private List<InternalNode> children;
+
+    // Hash of the target class and type, and a two-part bloom filter
+    // of ancestors' hashes, used for detecting cycles without
+    // walking the parent chain in the common (non-cyclic) case
+    private final int cycleHash;
+    private final long ancestorFilterLow;
+    private final long ancestorFilterHigh;
+
+    private volatile List<InternalNode> children; // NOPMD
+    private NodeFactory childNodeFactory;
+    private FieldAccessor fieldAccessor;
 
     private InternalNode(final Builder builder) {
         nodeContext = builder.nodeContext;
@@ -57,8 +68,29 @@ public final class InternalNode {
         parent = builder.parent;
         children = builder.children == null ? Collections.emptyList() : Collections.unmodifiableList(builder.children);
         nodeKind = builder.nodeKind;
-        typeMap = new TypeMap(type, nodeContext.getRootTypeMap(), builder.additionalTypeMap);
+        typeMap = nodeContext.getTypeMap(type, builder.additionalTypeMap);
         depth = parent == null ? 0 : parent.depth + 1;
+        cycleHash = mix(31 * targetClass.hashCode() + type.hashCode());
+        if (parent == null) {
+            ancestorFilterLow = 0;
+            ancestorFilterHigh = 0;
+        } else {
+            ancestorFilterLow = parent.ancestorFilterLow | lowBit(parent.cycleHash);
+            ancestorFilterHigh = parent.ancestorFilterHigh | highBit(parent.cycleHash);
+        }
+    }
+
+    private static int mix(final int hash) {
+        final int h = (hash ^ (hash >>> 16)) * 0x45d9f3b;
+        return h ^ (h >>> 16);
+    }
+
+    private static long lowBit(final int hash) {
+        return 1L << hash; // uses the lowest 6 bits
+    }
+
+    private static long highBit(final int hash) {
+        return 1L << (hash >>> 26);
     }
 
     public static InternalNode ignoredNode() {
@@ -142,6 +174,20 @@ public final class InternalNode {
         return field;
     }
 
+    /**
+     * Returns an accessor for the field associated with this node,
+     * or {@code null} if none.
+     *
+     * @return field accessor, if field is present, or {@code null}
+     */
+    public FieldAccessor getFieldAccessor() {
+        if (fieldAccessor == null && field != null) {
+            // benign race: accessors are immutable and cached per field
+            fieldAccessor = FieldAccessor.of(field);
+        }
+        return fieldAccessor;
+    }
+
     public InternalNode getParent() {
         return parent;
     }
@@ -166,21 +212,50 @@ public final class InternalNode {
      * @return this node's children or an empty list if none
      */
     public List<InternalNode> getChildren() {
-        return children;
+        final List<InternalNode> result = children;
+        return result == null ? childNodeFactory.createChildrenLazily(this) : result;
     }
 
     public void setChildren(final List<InternalNode> children) {
         this.children = children;
     }
 
+    /**
+     * Returns children if they have been created.
+     *
+     * @return children, or {@code null} if they are yet to be created lazily
+     */
+    List<InternalNode> getChildrenIfCreated() {
+        return children;
+    }
+
+    /**
+     * Specifies that this node's children should be created
+     * using the given factory the first time they are requested.
+     *
+     * @param nodeFactory for creating this node's children
+     */
+    void createChildrenLazily(final NodeFactory nodeFactory) {
+        this.childNodeFactory = nodeFactory;
+        this.children = null; // NOPMD
+    }
+
     /**
      * This method is used for detecting cycles. If this node
      * is equal to any of its ancestors, then there is a cycle.
      *
+     * <p>Ancestors are only compared if the bloom filter of ancestors'
+     * target classes and types indicates that there may be a match.
+     *
      * @return {@code true} if this node has an ancestor equal to it,
      * {@code false} otherwise.
      */
     public boolean hasAncestorEqualToSelf() {
+        if ((ancestorFilterLow & lowBit(cycleHash)) == 0
+                || (ancestorFilterHigh & highBit(cycleHash)) == 0) {
+            return false;
+        }
+
         InternalNode ancestor = parent;
 
         while (ancestor != null) {
@@ -230,11 +305,14 @@ public final class InternalNode {
                 ? Format.withoutPackage(targetClass)
                 : Format.withoutPackage(parent.targetClass) + '.' + field.getName();
 
+        // Avoid creating children (if they are created lazily)
+        final List<InternalNode> currentChildren = children;
+
         //noinspection StringBufferReplaceableByString
         return new StringBuilder().append("Node[")
                 .append(nodeName)
                 .append(", depth=").append(depth)
-                .append(", #chn=").append(children.size())
+                .append(", #chn=").append(currentChildren == null ? "?" : currentChildren.size())
                 .append(", ").append(Format.withoutPackage(type))
                 .append(']')
                 .toString();
@@ -26,23 +26,29 @@ import org.instancio.settings.Settings;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.TypeResolver;
 
+import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 public final class NodeContext {
     private final int maxDepth;
+    private final boolean lazy;
     private final Map<TypeVariable<?>, Class<?>> rootTypeMap;
     private final BooleanSelectorMap ignoredSelectorMap;
     private final SubtypeSelectorMap subtypeSelectorMap;
     private final Map<Class<?>, Class<?>> subtypeMappingFromSettings;
     private final TypeResolverFacade typeResolverFacade;
     private final List<InternalContainerFactoryProvider> containerFactories;
+    private final Map<TypeMapKey, TypeMap> typeMaps = new HashMap<>();
+    private TypeMap classTypeMap;
 
     private NodeContext(final Builder builder) {
         maxDepth = builder.maxDepth;
+        lazy = builder.lazy;
         rootTypeMap = builder.rootTypeMap;
         ignoredSelectorMap = builder.ignoredSelectorMap;
         subtypeSelectorMap = builder.subtypeSelectorMap;
@@ -55,6 +61,16 @@ public final class NodeContext {
         return maxDepth;
     }
 
+    /**
+     * Returns {@code true} if nodes' children should be created
+     * on first access instead of when the root node is created.
+     *
+     * @return {@code true} if children are created lazily
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
     public Map<TypeVariable<?>, Class<?>> getRootTypeMap() {
         return rootTypeMap;
     }
@@ -87,6 +103,37 @@ public final class NodeContext {
         return ignoredSelectorMap.isTrue(node);
     }
 
+    /**
+     * Returns a type map for the given type. Type maps depend only on the
+     * type, the root type map, and the additional type map. Therefore,
+     * a single instance is shared by all nodes with the same type and
+     * additional type map, instead of creating one per node.
+     *
+     * <p>Most nodes are of a non-generic class type without additional
+     * type mappings. Since all such nodes have an identical type map,
+     * it is returned without looking it up by the node's type.
+     *
+     * @param type              node's type
+     * @param additionalTypeMap additional type mappings (for example, for subtypes)
+     * @return type map
+     */
+    TypeMap getTypeMap(final Type type, final Map<Type, Type> additionalTypeMap) {
+        if (type instanceof Class && additionalTypeMap.isEmpty()) {
+            if (classTypeMap == null) {
+                classTypeMap = new TypeMap(type, rootTypeMap, additionalTypeMap);
+            }
+            return classTypeMap;
+        }
+
+        final TypeMapKey key = new TypeMapKey(type, additionalTypeMap);
+        TypeMap typeMap = typeMaps.get(key);
+        if (typeMap == null) {
+            typeMap = new TypeMap(type, rootTypeMap, additionalTypeMap);
+            typeMaps.put(key, typeMap);
+        }
+        return typeMap;
+    }
+
     public List<InternalContainerFactoryProvider> getContainerFactories() {
         return containerFactories;
     }
@@ -95,8 +142,32 @@ public final class NodeContext {
         return new Builder();
     }
 
+    private static final class TypeMapKey {
+        private final Type type;
+        private final Map<Type, Type> additionalTypeMap;
+
+        private TypeMapKey(final Type type, final Map<Type, Type> additionalTypeMap) {
+            this.type = type;
+            this.additionalTypeMap = additionalTypeMap;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TypeMapKey)) return false;
+            final TypeMapKey other = (TypeMapKey) o;
+            return type.equals(other.type) && additionalTypeMap.equals(other.additionalTypeMap);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + additionalTypeMap.hashCode();
+        }
+    }
+
     public static final class Builder {
         private int maxDepth;
+        private boolean lazy;
         private Map<TypeVariable<?>, Class<?>> rootTypeMap = Collections.emptyMap();
         private BooleanSelectorMap ignoredSelectorMap;
         private SubtypeSelectorMap subtypeSelectorMap;
@@ -112,6 +183,11 @@ public final class NodeContext {
             return this;
         }
 
+        public Builder lazy(final boolean lazy) {
+            this.lazy = lazy;
+            return this;
+        }
+
         public Builder rootTypeMap(final Map<TypeVariable<?>, Class<?>> rootTypeMap) {
             this.rootTypeMap = rootTypeMap;
             return this;
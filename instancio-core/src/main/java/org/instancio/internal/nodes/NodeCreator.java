@@ -153,7 +153,7 @@ class NodeCreator {
         // Handle the case where: Child<T> extends Parent<T>
         // If the child node inherits a TypeVariable field declaration from
         // the parent, we need to map Parent.T -> Child.T to resolve the type variable
-        final Map<Type, Type> genericSuperclassTypeMap = typeHelper.createSuperclassTypeMap(targetClass);
+        final Map<Type, Type> genericSuperclassTypeMap = typeHelper.getSuperclassTypeMap(targetClass);
 
         if (!genericSuperclassTypeMap.isEmpty()) {
             node = node.toBuilder()
@@ -16,9 +16,9 @@
 package org.instancio.internal.nodes;
 
 import org.instancio.exception.InstancioException;
+import org.instancio.internal.populator.TypeDescriptors;
 import org.instancio.internal.reflection.DeclaredAndInheritedFieldsCollector;
 import org.instancio.internal.reflection.FieldCollector;
-import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.TypeUtils;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -57,6 +57,11 @@ public final class NodeFactory {
     public InternalNode createRootNode(final Type type) {
         final InternalNode root = nodeCreator.createRootNodeWithoutChildren(type);
 
+        if (nodeContext.isLazy()) {
+            markLazy(root);
+            return root;
+        }
+
         // The queue contains nodes without children.
         // Children are populated after taking a node off the queue.
         final Queue<InternalNode> childlessNodeQueue = new LinkedList<>();
@@ -71,6 +76,38 @@ public final class NodeFactory {
         return root;
     }
 
+    /**
+     * Creates children of a node that was created lazily.
+     * The children themselves will be created lazily as well.
+     *
+     * <p>Since node creation is not thread-safe, and a node hierarchy
+     * may be shared, children of all nodes in the hierarchy are
+     * created while holding a lock on this factory.
+     *
+     * @param node to create children for
+     * @return child nodes
+     */
+    List<InternalNode> createChildrenLazily(final InternalNode node) {
+        synchronized (this) {
+            List<InternalNode> children = node.getChildrenIfCreated();
+            if (children == null) {
+                children = createChildlessChildren(node);
+                for (InternalNode child : children) {
+                    markLazy(child);
+                }
+                node.setChildren(children);
+            }
+            return children;
+        }
+    }
+
+    private void markLazy(final InternalNode node) {
+        // the ignored node is a shared instance that never has children
+        if (!node.is(NodeKind.IGNORED)) {
+            node.createChildrenLazily(this);
+        }
+    }
+
     /**
      * Creates children for the given node.
      * Returned children will not have children of their own.
@@ -168,7 +205,7 @@ public final class NodeFactory {
         final List<InternalNode> list = new ArrayList<>(fields.size());
 
         for (Field f : fields) {
-            final Type type = ObjectUtils.defaultIfNull(f.getGenericType(), f.getType());
+            final Type type = TypeDescriptors.getGenericType(f);
             final InternalNode node = nodeCreator.createNodeWithoutChildren(type, f, parent);
             if (node != null) {
                 list.add(node);
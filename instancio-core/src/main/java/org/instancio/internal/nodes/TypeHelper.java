@@ -15,6 +15,7 @@
  */
 package org.instancio.internal.nodes;
 
+import org.instancio.internal.populator.TypeDescriptors;
 import org.instancio.internal.util.TypeUtils;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -33,6 +34,13 @@ import java.util.Map;
 class TypeHelper {
     private static final Logger LOG = LoggerFactory.getLogger(TypeHelper.class);
 
+    private static final ClassValue<Map<Type, Type>> SUPERCLASS_TYPE_MAPS = new ClassValue<Map<Type, Type>>() {
+        @Override
+        protected Map<Type, Type> computeValue(final Class<?> targetClass) {
+            return createSuperclassTypeMap(targetClass);
+        }
+    };
+
     private final NodeContext nodeContext;
 
     TypeHelper(final NodeContext nodeContext) {
@@ -60,10 +68,20 @@ class TypeHelper {
         return mappedType == typeVar ? null : mappedType; // NOPMD
     }
 
-    Map<Type, Type> createSuperclassTypeMap(final Class<?> targetClass) {
+    /**
+     * Returns a type map of type variables declared by the superclasses
+     * of the given class. The result is cached per class (and shared
+     * by all node hierarchies) since the same class is typically
+     * encountered multiple times. The returned map must not be modified.
+     */
+    Map<Type, Type> getSuperclassTypeMap(final Class<?> targetClass) {
+        return SUPERCLASS_TYPE_MAPS.get(targetClass);
+    }
+
+    private static Map<Type, Type> createSuperclassTypeMap(final Class<?> targetClass) {
         Map<Type, Type> resultTypeMap = null;
 
-        Type supertype = targetClass.getGenericSuperclass();
+        Type supertype = TypeDescriptors.getGenericSuperclass(targetClass);
 
         while (supertype instanceof ParameterizedType) {
             if (resultTypeMap == null) {
@@ -73,7 +91,7 @@ class TypeHelper {
             addTypeParameters((ParameterizedType) supertype, resultTypeMap);
 
             final Class<?> rawSuper = TypeUtils.getRawType(supertype);
-            supertype = rawSuper.getGenericSuperclass();
+            supertype = TypeDescriptors.getGenericSuperclass(rawSuper);
         }
 
         if (resultTypeMap == null) {
@@ -81,7 +99,7 @@ class TypeHelper {
         }
 
         LOG.trace("Created superclass type map: {}", resultTypeMap);
-        return resultTypeMap;
+        return Collections.unmodifiableMap(resultTypeMap);
     }
 
     /**
@@ -121,7 +139,7 @@ class TypeHelper {
         }
 
         // If subtype has a generic superclass, add its type variables and type arguments to the type map
-        final Type supertype = target.getGenericSuperclass();
+        final Type supertype = TypeDescriptors.getGenericSuperclass(target);
         if (supertype instanceof ParameterizedType) {
             addTypeParameters((ParameterizedType) supertype, typeMap);
         }
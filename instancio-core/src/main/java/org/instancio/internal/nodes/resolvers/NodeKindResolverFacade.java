@@ -19,31 +19,50 @@ import org.instancio.internal.nodes.NodeKind;
 import org.instancio.internal.nodes.NodeKindResolver;
 import org.instancio.internal.spi.InternalContainerFactoryProvider;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 public class NodeKindResolverFacade {
 
-    private final NodeKindResolver[] resolvers;
-
-    public NodeKindResolverFacade(final List<InternalContainerFactoryProvider> containerFactories) {
-        this.resolvers = new NodeKindResolver[]{
+    /**
+     * Node kinds resolved without taking container factory providers
+     * into account. Since these do not depend on the configuration,
+     * they are computed once per class and shared by all instances.
+     * {@link NodeKind#DEFAULT} indicates that none of the resolvers matched.
+     */
+    private static final ClassValue<NodeKind> BUILT_IN_NODE_KINDS = new ClassValue<NodeKind>() {
+        private final List<NodeKindResolver> resolvers = Arrays.asList(
                 new NodeKindCollectionResolver(),
                 new NodeKindMapResolver(),
                 new NodeKindArrayResolver(),
                 new NodeKindRecordResolver(),
-                new NodeKindContainerResolver(Collections.unmodifiableList(containerFactories))
-        };
+                new NodeKindContainerResolver(Collections.emptyList()));
+
+        @Override
+        protected NodeKind computeValue(final Class<?> rawType) {
+            for (NodeKindResolver resolver : resolvers) {
+                Optional<NodeKind> resolve = resolver.resolve(rawType);
+                if (resolve.isPresent()) {
+                    return resolve.get();
+                }
+            }
+            return NodeKind.DEFAULT;
+        }
+    };
+
+    private final NodeKindResolver containerResolver;
+
+    public NodeKindResolverFacade(final List<InternalContainerFactoryProvider> containerFactories) {
+        this.containerResolver = new NodeKindContainerResolver(Collections.unmodifiableList(containerFactories));
     }
 
     public NodeKind getNodeKind(final Class<?> rawType) {
-        for (NodeKindResolver resolver : resolvers) {
-            Optional<NodeKind> resolve = resolver.resolve(rawType);
-            if (resolve.isPresent()) {
-                return resolve.get();
-            }
+        final NodeKind nodeKind = BUILT_IN_NODE_KINDS.get(rawType);
+        if (nodeKind == NodeKind.DEFAULT) {
+            return containerResolver.resolve(rawType).orElse(NodeKind.DEFAULT);
         }
-        return NodeKind.DEFAULT;
+        return nodeKind;
     }
 }
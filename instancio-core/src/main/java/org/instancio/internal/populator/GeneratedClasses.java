@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.populator;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads classes generated by the annotation processor.
+ */
+final class GeneratedClasses {
+    private static final Logger LOG = LoggerFactory.getLogger(GeneratedClasses.class);
+
+    private GeneratedClasses() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns {@code true} if classes generated for the given
+     * class may exist, which excludes JDK classes.
+     */
+    static boolean mayHaveGeneratedClasses(final Class<?> klass) {
+        return !klass.isPrimitive() && !klass.isArray() && !klass.getName().startsWith("java.");
+    }
+
+    /**
+     * Creates an instance of the class generated for the given class.
+     *
+     * @param klass  the class the generated class was generated for
+     * @param suffix suffix appended to the binary name of the class
+     * @param type   expected type of the generated class
+     * @param <T>    expected type
+     * @return an instance of the generated class, or {@code null} if none
+     */
+    @Nullable
+    static <T> T newInstance(final Class<?> klass, final String suffix, final Class<T> type) {
+        // generated classes are placed in the same package as the class,
+        // and are therefore loaded by the class's own loader
+        final ClassLoader classLoader = klass.getClassLoader(); // NOPMD
+        if (classLoader == null) {
+            return null;
+        }
+        final String generatedName = klass.getName() + suffix;
+        try {
+            final Class<?> generatedClass = Class.forName(generatedName, false, classLoader);
+            if (!type.isAssignableFrom(generatedClass)) {
+                return null;
+            }
+            final T instance = type.cast(generatedClass.getDeclaredConstructor().newInstance());
+            LOG.trace("Using generated {} {}", type.getSimpleName(), generatedName);
+            return instance;
+        } catch (ClassNotFoundException ex) {
+            return null;
+        } catch (Exception ex) {
+            LOG.debug("Error loading generated class {}", generatedName, ex);
+            return null;
+        }
+    }
+}
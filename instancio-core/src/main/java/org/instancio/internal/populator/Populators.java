@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.populator;
+
+import org.instancio.spi.FieldWriter;
+import org.instancio.spi.Populator;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+/**
+ * Resolves populators generated by the annotation processor.
+ * Populators are resolved once per class.
+ */
+public final class Populators {
+
+    /**
+     * Suffix appended to the binary name of a class
+     * to obtain the name of its generated populator.
+     */
+    public static final String CLASS_NAME_SUFFIX = "_InstancioPopulator";
+
+    private static final ClassValue<Optional<Populator>> POPULATORS = new ClassValue<Optional<Populator>>() {
+        @Override
+        protected Optional<Populator> computeValue(final Class<?> klass) {
+            return Optional.ofNullable(GeneratedClasses.newInstance(klass, CLASS_NAME_SUFFIX, Populator.class));
+        }
+    };
+
+    private Populators() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns the generated populator for the given class, if one exists.
+     *
+     * @param klass the class to populate
+     * @return the populator, or an empty result if none was generated
+     */
+    public static Optional<Populator> get(final Class<?> klass) {
+        if (!GeneratedClasses.mayHaveGeneratedClasses(klass)) {
+            return Optional.empty();
+        }
+        return POPULATORS.get(klass);
+    }
+
+    /**
+     * Returns a writer for the given field from
+     * the generated populator of its declaring class.
+     *
+     * @param field to write
+     * @return field writer, or {@code null} if not available
+     */
+    public static FieldWriter getFieldWriter(final Field field) {
+        return get(field.getDeclaringClass())
+                .map(p -> p.getFieldWriter(field.getName()))
+                .orElse(null);
+    }
+}
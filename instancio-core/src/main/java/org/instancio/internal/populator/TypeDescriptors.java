@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.populator;
+
+import org.instancio.spi.TypeDescriptor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+/**
+ * Resolves generic types using type descriptors generated by the annotation
+ * processor, falling back to reflection for classes without a descriptor.
+ * Descriptors are resolved once per class.
+ *
+ * @see TypeDescriptor
+ */
+public final class TypeDescriptors {
+
+    /**
+     * Suffix appended to the binary name of a class
+     * to obtain the name of its generated type descriptor.
+     */
+    public static final String CLASS_NAME_SUFFIX = "_InstancioTypeDescriptor";
+
+    private static final ClassValue<Optional<TypeDescriptor>> DESCRIPTORS = new ClassValue<Optional<TypeDescriptor>>() {
+        @Override
+        protected Optional<TypeDescriptor> computeValue(final Class<?> klass) {
+            return Optional.ofNullable(GeneratedClasses.newInstance(klass, CLASS_NAME_SUFFIX, TypeDescriptor.class));
+        }
+    };
+
+    private TypeDescriptors() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns the generated type descriptor for the given class, if one exists.
+     *
+     * @param klass the described class
+     * @return the descriptor, or an empty result if none was generated
+     */
+    public static Optional<TypeDescriptor> get(final Class<?> klass) {
+        if (!GeneratedClasses.mayHaveGeneratedClasses(klass)) {
+            return Optional.empty();
+        }
+        return DESCRIPTORS.get(klass);
+    }
+
+    /**
+     * Returns the generic type of the given field, or
+     * its raw type if the field's type is not generic.
+     *
+     * @param field whose type to resolve
+     * @return generic type of the field
+     * @see Field#getGenericType()
+     */
+    public static Type getGenericType(final Field field) {
+        final Optional<TypeDescriptor> descriptor = get(field.getDeclaringClass());
+        if (descriptor.isPresent()) {
+            final Type type = descriptor.get().getGenericType(field.getName());
+            if (type != null) {
+                return type;
+            }
+        }
+        final Type type = field.getGenericType();
+        return type == null ? field.getType() : type;
+    }
+
+    /**
+     * Returns the generic superclass of the given class.
+     *
+     * @param klass whose superclass to resolve
+     * @return generic superclass, or {@code null} if the class has no superclass
+     * @see Class#getGenericSuperclass()
+     */
+    public static Type getGenericSuperclass(final Class<?> klass) {
+        final Optional<TypeDescriptor> descriptor = get(klass);
+        if (descriptor.isPresent()) {
+            final Type type = descriptor.get().getGenericSuperclass();
+            if (type != null) {
+                return type;
+            }
+        }
+        return klass.getGenericSuperclass();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import java.util.Random;
+
+/**
+ * Base class for random number generators that are faster
+ * alternatives to {@link Random}.
+ *
+ * <p>Subclasses extend {@link Random} so that they can be used in place
+ * of it, however, the state of {@link Random} is not used. All values
+ * are derived from {@link #nextLong()}, and bounded values are generated
+ * without modulo bias or allocation. Instances are not thread-safe.
+ */
+abstract class AbstractRandomEngine extends Random {
+    private static final long serialVersionUID = 1L;
+
+    // unused bits of the last value drawn by nextIndex()
+    private long bitBuffer;
+    private int bitCount;
+
+    /**
+     * Creates an instance with the given seed. Note that {@link Random}'s
+     * constructor initialises the generator by calling {@link #setSeed(long)}.
+     *
+     * @param seed the initial seed
+     */
+    AbstractRandomEngine(final long seed) {
+        super(seed);
+    }
+
+    @Override
+    public abstract void setSeed(long seed);
+
+    @Override
+    public abstract long nextLong();
+
+    @Override
+    protected int next(final int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Generates a bounded int using Lemire's multiply-and-shift method,
+     * which avoids the division performed by {@link Random#nextInt(int)}
+     * in the common case.
+     *
+     * @param bound the upper bound (exclusive), must be positive
+     * @return a random value between zero (inclusive) and {@code bound} (exclusive)
+     */
+    @Override
+    public int nextInt(final int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        long m = (nextInt() & 0xffffffffL) * bound;
+        long l = m & 0xffffffffL;
+        if (l < bound) {
+            final long threshold = (0x100000000L - bound) % bound;
+            while (l < threshold) {
+                m = (nextInt() & 0xffffffffL) * bound;
+                l = m & 0xffffffffL;
+            }
+        }
+        return (int) (m >>> 32);
+    }
+
+    /**
+     * Generates a bounded long.
+     *
+     * @param bound the upper bound (exclusive), must be positive
+     * @return a random value between zero (inclusive) and {@code bound} (exclusive)
+     */
+    long nextBoundedLong(final long bound) {
+        final long m = bound - 1;
+        long r = nextLong();
+        if ((bound & m) == 0L) {
+            // power of two
+            return r & m;
+        }
+        long u = r >>> 1;
+        r = u % bound;
+        while (u + m - r < 0L) {
+            u = nextLong() >>> 1;
+            r = u % bound;
+        }
+        return r;
+    }
+
+    /**
+     * Generates a small bounded int using as few bits as necessary.
+     * Bits are taken from a buffered 64-bit value, so that several
+     * values, such as string characters, are extracted from each draw.
+     *
+     * @param bound the upper bound (exclusive), must be between 1 and 2^16 (inclusive)
+     * @return a random value between zero (inclusive) and {@code bound} (exclusive)
+     */
+    int nextIndex(final int bound) {
+        final int bits = Integer.SIZE - Integer.numberOfLeadingZeros(bound - 1);
+        if (bits == 0) {
+            return 0;
+        }
+        int result;
+        do {
+            result = nextBits(bits);
+        } while (result >= bound);
+        return result;
+    }
+
+    /**
+     * Fills the given array with characters from the alphabet.
+     *
+     * @param dest     array to fill
+     * @param alphabet characters to choose from, up to 2^16 elements
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    void nextChars(final char[] dest, final char[] alphabet) {
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = alphabet[nextIndex(alphabet.length)];
+        }
+    }
+
+    private int nextBits(final int bits) {
+        if (bitCount < bits) {
+            bitBuffer = nextLong();
+            bitCount = Long.SIZE;
+        }
+        final int result = (int) bitBuffer & ((1 << bits) - 1);
+        bitBuffer >>>= bits;
+        bitCount -= bits;
+        return result;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        int i = 0;
+        while (i < bytes.length) {
+            long rnd = nextLong();
+            final int n = Math.min(bytes.length - i, Long.BYTES);
+            for (int j = 0; j < n; j++) {
+                bytes[i + j] = (byte) rnd;
+                rnd >>>= Byte.SIZE;
+            }
+            i += n;
+        }
+    }
+}
@@ -53,15 +53,17 @@ public final class RandomDataGenerator {
 
     private static long nextLong(final Random random, final long n) throws IllegalArgumentException {
         if (n > 0) {
-            final byte[] byteArray = new byte[8];
+            if (random instanceof AbstractRandomEngine) {
+                return ((AbstractRandomEngine) random).nextBoundedLong(n);
+            }
             long bits;
             long val;
             do {
-                random.nextBytes(byteArray);
-                bits = 0;
-                for (final byte b : byteArray) {
-                    bits = (bits << 8) | ((b) & 0xffL);
-                }
+                // Equivalent to filling an 8-byte array using random.nextBytes()
+                // and combining the bytes in big-endian order, without allocating the array
+                final int high = random.nextInt();
+                final int low = random.nextInt();
+                bits = ((long) Integer.reverseBytes(high) << 32) | (Integer.reverseBytes(low) & 0xffffffffL);
                 bits &= 0x7fffffffffffffffL;
                 val = bits % n;
             } while (bits - val + (n - 1) < 0);
@@ -70,6 +72,41 @@ public final class RandomDataGenerator {
         throw new IllegalStateException("Not Strictly positive: " + n);
     }
 
+    /**
+     * Generates a value between zero (inclusive) and {@code bound} (exclusive).
+     * Engines that support it extract the value from buffered random bits.
+     * For {@link Random}, this is equivalent to {@link Random#nextInt(int)}.
+     *
+     * @param random the random number generator
+     * @param bound  the upper bound (exclusive), must be between 1 and 2^16 (inclusive)
+     * @return a random index
+     */
+    public static int nextIndex(final Random random, final int bound) {
+        if (random instanceof AbstractRandomEngine) {
+            return ((AbstractRandomEngine) random).nextIndex(bound);
+        }
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Fills the given array with random characters from the alphabet.
+     * For {@link Random}, a character is chosen using
+     * {@link Random#nextInt(int)} for each element.
+     *
+     * @param random   the random number generator
+     * @param dest     array to fill
+     * @param alphabet characters to choose from, up to 2^16 elements
+     */
+    public static void nextChars(final Random random, final char[] dest, final char[] alphabet) {
+        if (random instanceof AbstractRandomEngine) {
+            ((AbstractRandomEngine) random).nextChars(dest, alphabet);
+        } else {
+            for (int i = 0; i < dest.length; i++) {
+                dest[i] = alphabet[random.nextInt(alphabet.length)];
+            }
+        }
+    }
+
     public static double nextDouble(final Random random, double lower, double upper) {
         Verify.isTrue(lower <= upper, "Lower must be less than or equal to upper: %s, %s", lower, upper);
         Verify.isFalse(Double.isInfinite(lower), "Lower bound must not be infinite");
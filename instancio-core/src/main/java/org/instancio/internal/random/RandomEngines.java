@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.RandomEngine;
+
+import java.util.Random;
+
+public final class RandomEngines {
+
+    private RandomEngines() {
+        // non-instantiable
+    }
+
+    /**
+     * Creates a random number generator for the given engine.
+     *
+     * @param engine the engine to create
+     * @param seed   the seed
+     * @return a seeded random number generator
+     */
+    public static Random create(final RandomEngine engine, final long seed) {
+        switch (engine) {
+            case SPLITTABLE_RANDOM:
+                return new SplittableRandomEngine(seed);
+            case XOROSHIRO_128_PLUS_PLUS:
+                return new Xoroshiro128PlusPlusEngine(seed);
+            default:
+                return new Random(seed); // NOSONAR
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random number generator backed by {@link SplittableRandom}.
+ */
+final class SplittableRandomEngine extends AbstractRandomEngine {
+    private static final long serialVersionUID = 1L;
+
+    private transient SplittableRandom delegate;
+
+    SplittableRandomEngine(final long seed) {
+        super(seed);
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        delegate = new SplittableRandom(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return delegate.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return delegate.nextInt();
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        return delegate.nextInt(bound);
+    }
+
+    @Override
+    long nextBoundedLong(final long bound) {
+        return delegate.nextLong(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return delegate.nextDouble();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+/**
+ * Random number generator implementing the xoroshiro128++ algorithm
+ * by David Blackman and Sebastiano Vigna.
+ *
+ * @see <a href="https://prng.di.unimi.it/xoroshiro128plusplus.c">xoroshiro128plusplus.c</a>
+ */
+final class Xoroshiro128PlusPlusEngine extends AbstractRandomEngine {
+    private static final long serialVersionUID = 1L;
+
+    private long s0;
+    private long s1;
+
+    Xoroshiro128PlusPlusEngine(final long seed) {
+        super(seed);
+    }
+
+    /**
+     * Initialises the state using the SplitMix64 generator,
+     * as recommended by the authors of the algorithm.
+     *
+     * @param seed the seed
+     */
+    @Override
+    public void setSeed(final long seed) {
+        final long x = seed + 0x9e3779b97f4a7c15L;
+        s0 = mix64(x);
+        s1 = mix64(x + 0x9e3779b97f4a7c15L);
+        if ((s0 | s1) == 0L) {
+            // the state must not be all zeroes
+            s1 = 0x9e3779b97f4a7c15L;
+        }
+    }
+
+    @Override
+    public long nextLong() {
+        final long x0 = s0;
+        long x1 = s1;
+        final long result = Long.rotateLeft(x0 + x1, 17) + x0;
+        x1 ^= x0;
+        s0 = Long.rotateLeft(x0, 49) ^ x1 ^ (x1 << 21);
+        s1 = Long.rotateLeft(x1, 28);
+        return result;
+    }
+
+    private static long mix64(final long z) {
+        long x = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+}
@@ -21,38 +21,36 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Collects declared and super class fields, excluding static fields.
  */
 public class DeclaredAndInheritedFieldsCollector implements FieldCollector {
 
+    private static final PackageFilter PACKAGE_FILTER = new DefaultPackageFilter();
+
     /**
-     * Caching fields improves performance when the same
-     * class is referenced multiple times.
+     * Caching fields improves performance when the same class
+     * is referenced multiple times. The cache is shared by all
+     * instances, so fields of a given class are only collected
+     * once per class loader.
      */
-    private final Map<Class<?>, List<Field>> cache = new HashMap<>();
-
-    private final PackageFilter packageFilter = new DefaultPackageFilter();
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(final Class<?> klass) {
+            return Collections.unmodifiableList(getFieldList(klass));
+        }
+    };
 
     @Override
     public List<Field> getFields(final Class<?> klass) {
-        final List<Field> cached = cache.get(klass);
-
-        if (cached != null) {
-            return cached;
-        }
-
-        final List<Field> collected = getFieldList(klass);
-        cache.put(klass, collected);
-        return collected;
+        return FIELDS.get(klass);
     }
 
     @NotNull
-    private List<Field> getFieldList(final Class<?> klass) {
+    private static List<Field> getFieldList(final Class<?> klass) {
         Class<?> next = klass;
 
         final List<Field> collected = new ArrayList<>();
@@ -67,11 +65,11 @@ public class DeclaredAndInheritedFieldsCollector implements FieldCollector {
         return collected;
     }
 
-    private boolean shouldCollectFrom(@Nullable final Class<?> c) {
+    private static boolean shouldCollectFrom(@Nullable final Class<?> c) {
         return c != null
                 && !c.isInterface()
                 && !c.isArray()
                 && c != Object.class
-                && !packageFilter.isExcluded(c.getPackage());
+                && !PACKAGE_FILTER.isExcluded(c.getPackage());
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.internal.util.Verify;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Implementations of generic types created by generated type descriptors.
+ *
+ * <p>The {@code equals()} and {@code hashCode()} methods follow the contract
+ * of the JDK's own implementations, so that these types are interchangeable
+ * with those returned by the reflection API, for example, when used as keys
+ * of type maps.
+ *
+ * @see org.instancio.spi.TypeDescriptor
+ */
+public final class GeneratedTypes {
+
+    private GeneratedTypes() {
+        // non-instantiable
+    }
+
+    public static ParameterizedType parameterizedType(
+            final Class<?> rawType, final Type ownerType, final Type... typeArguments) {
+
+        return new ParameterizedTypeImpl(rawType, ownerType, typeArguments);
+    }
+
+    public static GenericArrayType genericArrayType(final Type componentType) {
+        return new GenericArrayTypeImpl(componentType);
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    public static WildcardType wildcardType(final Type[] upperBounds, final Type[] lowerBounds) {
+        return new WildcardTypeImpl(upperBounds, lowerBounds);
+    }
+
+    private static final class ParameterizedTypeImpl implements ParameterizedType {
+        private final Class<?> rawType;
+        private final Type ownerType;
+        private final Type[] typeArguments;
+
+        @SuppressWarnings("PMD.UseVarargs")
+        private ParameterizedTypeImpl(final Class<?> rawType, final Type ownerType, final Type[] typeArguments) {
+            this.rawType = Verify.notNull(rawType, "null raw type");
+            this.ownerType = ownerType == null ? rawType.getDeclaringClass() : ownerType;
+            this.typeArguments = typeArguments.clone();
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return typeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return ownerType;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ParameterizedType)) return false;
+            final ParameterizedType other = (ParameterizedType) o;
+            return Objects.equals(ownerType, other.getOwnerType())
+                    && Objects.equals(rawType, other.getRawType())
+                    && Arrays.equals(typeArguments, other.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(typeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            if (ownerType == null) {
+                sb.append(rawType.getName());
+            } else {
+                sb.append(ownerType.getTypeName()).append('$').append(rawType.getSimpleName());
+            }
+            final StringJoiner joiner = new StringJoiner(", ", "<", ">").setEmptyValue("");
+            for (Type typeArgument : typeArguments) {
+                joiner.add(typeArgument.getTypeName());
+            }
+            return sb.append(joiner).toString();
+        }
+    }
+
+    private static final class GenericArrayTypeImpl implements GenericArrayType {
+        private final Type componentType;
+
+        private GenericArrayTypeImpl(final Type componentType) {
+            this.componentType = Verify.notNull(componentType, "null component type");
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return componentType;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof GenericArrayType)) return false;
+            return Objects.equals(componentType, ((GenericArrayType) o).getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(componentType);
+        }
+
+        @Override
+        public String toString() {
+            return componentType.getTypeName() + "[]";
+        }
+    }
+
+    private static final class WildcardTypeImpl implements WildcardType {
+        private final Type[] upperBounds;
+        private final Type[] lowerBounds;
+
+        @SuppressWarnings("PMD.UseVarargs")
+        private WildcardTypeImpl(final Type[] upperBounds, final Type[] lowerBounds) {
+            this.upperBounds = upperBounds.length == 0 ? new Type[]{Object.class} : upperBounds.clone();
+            this.lowerBounds = lowerBounds.clone();
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return upperBounds.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return lowerBounds.clone();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof WildcardType)) return false;
+            final WildcardType other = (WildcardType) o;
+            return Arrays.equals(lowerBounds, other.getLowerBounds())
+                    && Arrays.equals(upperBounds, other.getUpperBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(lowerBounds) ^ Arrays.hashCode(upperBounds);
+        }
+
+        @Override
+        public String toString() {
+            final Type[] bounds;
+            final StringJoiner joiner;
+            if (lowerBounds.length > 0) {
+                bounds = lowerBounds;
+                joiner = new StringJoiner(" & ", "? super ", "");
+            } else if (upperBounds[0] != Object.class) {
+                bounds = upperBounds;
+                joiner = new StringJoiner(" & ", "? extends ", "");
+            } else {
+                return "?";
+            }
+            for (Type bound : bounds) {
+                joiner.add(bound.getTypeName());
+            }
+            return joiner.toString();
+        }
+    }
+}
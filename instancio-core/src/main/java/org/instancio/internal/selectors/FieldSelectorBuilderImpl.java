@@ -26,12 +26,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
 
 @SuppressWarnings("PMD.InsufficientStringBufferDeclaration")
 public class FieldSelectorBuilderImpl implements FieldSelectorBuilder, SelectorBuilder {
 
     private final List<Predicate<Field>> fieldPredicates = new ArrayList<>(4);
     private final StringBuilder description = new StringBuilder("fields()");
+    private String indexFieldName;
+    private Class<?> indexDeclaringClass;
+    private Class<? extends Annotation> indexAnnotation;
 
     @Override
     public FieldSelectorBuilder named(final String fieldName) {
@@ -40,6 +46,7 @@ public class FieldSelectorBuilderImpl implements FieldSelectorBuilder, SelectorB
                 "named", description.toString(), new Throwable()));
 
         fieldPredicates.add(field -> field.getName().equals(fieldName));
+        indexFieldName = defaultIfNull(indexFieldName, fieldName);
         description.append(".named(\"").append(fieldName).append("\")");
         return this;
     }
@@ -50,7 +57,8 @@ public class FieldSelectorBuilderImpl implements FieldSelectorBuilder, SelectorB
                 "Regex must not be null.",
                 "matching", description.toString(), new Throwable()));
 
-        fieldPredicates.add(field -> field.getName().matches(regex));
+        final Pattern pattern = Pattern.compile(regex);
+        fieldPredicates.add(field -> pattern.matcher(field.getName()).matches());
         description.append(".matching(\"").append(regex).append("\")");
         return this;
     }
@@ -73,6 +81,7 @@ public class FieldSelectorBuilderImpl implements FieldSelectorBuilder, SelectorB
                 "declaredIn", description.toString(), new Throwable()));
 
         fieldPredicates.add(field -> field.getDeclaringClass() == type);
+        indexDeclaringClass = defaultIfNull(indexDeclaringClass, type);
         description.append(".declaredIn(").append(type.getSimpleName()).append(')');
         return this;
     }
@@ -84,6 +93,7 @@ public class FieldSelectorBuilderImpl implements FieldSelectorBuilder, SelectorB
                 "annotated", description.toString(), new Throwable()));
 
         fieldPredicates.add(field -> field.getDeclaredAnnotation(annotation) != null);
+        indexAnnotation = defaultIfNull(indexAnnotation, annotation);
         description.append(".annotated(").append(annotation.getSimpleName()).append(')');
         return this;
     }
@@ -94,7 +104,8 @@ public class FieldSelectorBuilderImpl implements FieldSelectorBuilder, SelectorB
         for (Predicate<Field> p : fieldPredicates) {
             predicate = predicate.and(p);
         }
-        return new PredicateSelectorImpl(SelectorTargetKind.FIELD, predicate, null, description.toString());
+        return new PredicateSelectorImpl(SelectorTargetKind.FIELD, predicate, null, description.toString(),
+                new PredicateSelectorImpl.IndexKeys(indexFieldName, indexDeclaringClass, indexAnnotation));
     }
 
     @Override
@@ -16,6 +16,7 @@
 package org.instancio.internal.selectors;
 
 import org.instancio.Selector;
+import org.instancio.internal.util.StackTraceHolders;
 
 /**
  * Selector for use in generated metamodel classes only.
@@ -39,6 +40,6 @@ public final class MetamodelSelector extends SelectorImpl {
      * @return a copy of this selector containing a new {@code stackTraceHolder}
      */
     public Selector copyWithNewStackTraceHolder() {
-        return SelectorImpl.builder(this).stackTraceHolder(new Throwable()).build();
+        return SelectorImpl.builder(this).stackTraceHolder(StackTraceHolders.capture()).build();
     }
 }
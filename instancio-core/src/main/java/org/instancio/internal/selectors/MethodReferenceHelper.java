@@ -27,6 +27,7 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.instancio.internal.util.Constants.NL;
 
@@ -35,12 +36,47 @@ public final class MethodReferenceHelper {
     private static final String GET_PREFIX = "get";
     private static final String IS_PREFIX = "is";
 
+    /**
+     * Fields resolved from method references, keyed by the method reference's
+     * synthetic class. A given method reference expression always has the same
+     * class and resolves to the same field, therefore the reflective lookup
+     * only needs to be performed once. The field is resolved on first use
+     * since resolution requires an instance of the method reference.
+     */
+    private static final ClassValue<AtomicReference<ResolvedField>> RESOLVED_FIELDS =
+            new ClassValue<AtomicReference<ResolvedField>>() {
+                @Override
+                protected AtomicReference<ResolvedField> computeValue(final Class<?> methodRefClass) {
+                    return new AtomicReference<>();
+                }
+            };
+
+    private static final class ResolvedField {
+        private final Class<?> targetClass;
+        private final String fieldName;
+
+        private ResolvedField(final Class<?> targetClass, final String fieldName) {
+            this.targetClass = targetClass;
+            this.fieldName = fieldName;
+        }
+    }
+
     private MethodReferenceHelper() {
         // non-instantiable
     }
 
-    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
     public static <T, R> Selector resolve(final GetMethodSelector<T, R> methodRef) {
+        final AtomicReference<ResolvedField> ref = RESOLVED_FIELDS.get(methodRef.getClass());
+        ResolvedField resolved = ref.get();
+        if (resolved == null) {
+            resolved = resolveField(methodRef);
+            ref.set(resolved);
+        }
+        return Select.field(resolved.targetClass, resolved.fieldName);
+    }
+
+    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    private static ResolvedField resolveField(final GetMethodSelector<?, ?> methodRef) {
         try {
             final Method replaceMethod = methodRef.getClass().getDeclaredMethod("writeReplace");
             replaceMethod.setAccessible(true);
@@ -53,7 +89,7 @@ public final class MethodReferenceHelper {
                 throw new InstancioApiException(getErrorMessage(lambda, targetClass));
             }
 
-            return Select.field(targetClass, fieldName);
+            return new ResolvedField(targetClass, fieldName);
         } catch (NoSuchMethodException
                  | IllegalAccessException
                  | InvocationTargetException
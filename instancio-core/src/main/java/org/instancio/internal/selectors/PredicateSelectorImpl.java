@@ -20,8 +20,10 @@ import org.instancio.TargetSelector;
 import org.instancio.exception.InstancioException;
 import org.instancio.internal.util.Format;
 import org.instancio.internal.util.ObjectUtils;
+import org.instancio.internal.util.StackTraceHolders;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +38,7 @@ public final class PredicateSelectorImpl implements PredicateSelector, Flattener
     private final Predicate<Field> fieldPredicate;
     private final Predicate<Class<?>> classPredicate;
     private final String apiInvocationDescription;
+    private final IndexKeys indexKeys;
     private final Throwable stackTraceHolder;
 
     public PredicateSelectorImpl(final SelectorTargetKind selectorTargetKind,
@@ -43,7 +46,28 @@ public final class PredicateSelectorImpl implements PredicateSelector, Flattener
                                  @Nullable final Predicate<Class<?>> classPredicate,
                                  @Nullable final String apiInvocationDescription) {
 
-        this(selectorTargetKind, fieldPredicate, classPredicate, apiInvocationDescription, new Throwable());
+        this(selectorTargetKind, fieldPredicate, classPredicate, apiInvocationDescription,
+                IndexKeys.NONE, StackTraceHolders.capture());
+    }
+
+    PredicateSelectorImpl(final SelectorTargetKind selectorTargetKind,
+                          @Nullable final Predicate<Field> fieldPredicate,
+                          @Nullable final Predicate<Class<?>> classPredicate,
+                          final String apiInvocationDescription,
+                          final IndexKeys indexKeys) {
+
+        this(selectorTargetKind, fieldPredicate, classPredicate, apiInvocationDescription,
+                indexKeys, StackTraceHolders.capture());
+    }
+
+    PredicateSelectorImpl(final SelectorTargetKind selectorTargetKind,
+                          @Nullable final Predicate<Field> fieldPredicate,
+                          @Nullable final Predicate<Class<?>> classPredicate,
+                          @Nullable final String apiInvocationDescription,
+                          final Throwable stackTraceHolder) {
+
+        this(selectorTargetKind, fieldPredicate, classPredicate, apiInvocationDescription,
+                IndexKeys.NONE, stackTraceHolder);
     }
 
     /**
@@ -51,18 +75,21 @@ public final class PredicateSelectorImpl implements PredicateSelector, Flattener
      * @param fieldPredicate           field predicate, applicable to field selectors only
      * @param classPredicate           class predicate, applicable to type selectors only
      * @param apiInvocationDescription string describing builder method(s) invoked
+     * @param indexKeys                properties a target must have in order to match
      * @param stackTraceHolder         a throwable containing stacktrace line where selector was used
      */
-    PredicateSelectorImpl(final SelectorTargetKind selectorTargetKind,
-                          @Nullable final Predicate<Field> fieldPredicate,
-                          @Nullable final Predicate<Class<?>> classPredicate,
-                          @Nullable final String apiInvocationDescription,
-                          final Throwable stackTraceHolder) {
+    private PredicateSelectorImpl(final SelectorTargetKind selectorTargetKind,
+                                  @Nullable final Predicate<Field> fieldPredicate,
+                                  @Nullable final Predicate<Class<?>> classPredicate,
+                                  @Nullable final String apiInvocationDescription,
+                                  final IndexKeys indexKeys,
+                                  final Throwable stackTraceHolder) {
 
         this.selectorTargetKind = selectorTargetKind;
         this.fieldPredicate = fieldPredicate == null ? null : NON_NULL_FIELD.and(fieldPredicate);
         this.classPredicate = classPredicate == null ? null : NON_NULL_TYPE.and(classPredicate);
         this.apiInvocationDescription = apiInvocationDescription;
+        this.indexKeys = indexKeys;
         this.stackTraceHolder = stackTraceHolder;
     }
 
@@ -88,6 +115,10 @@ public final class PredicateSelectorImpl implements PredicateSelector, Flattener
         return classPredicate;
     }
 
+    public IndexKeys getIndexKeys() {
+        return indexKeys;
+    }
+
     private String buildCustomPredicateToString() {
         if (selectorTargetKind == SelectorTargetKind.FIELD) {
             return "fields(Predicate<Field>)";
@@ -102,4 +133,55 @@ public final class PredicateSelectorImpl implements PredicateSelector, Flattener
     public String toString() {
         return ObjectUtils.defaultIfNull(apiInvocationDescription, this::buildCustomPredicateToString);
     }
+
+    /**
+     * Properties that a target must have in order to be matched by a selector.
+     * These are known for selectors created using a builder, such as
+     * {@code fields().named("foo")}, and are used for indexing selectors,
+     * so that predicates are only evaluated against targets that can match.
+     * Custom predicates have no index keys.
+     */
+    public static final class IndexKeys {
+        static final IndexKeys NONE = new IndexKeys(null, null, null);
+
+        private final String fieldName;
+        private final Class<?> declaringClass;
+        private final Class<? extends Annotation> annotation;
+
+        IndexKeys(@Nullable final String fieldName,
+                  @Nullable final Class<?> declaringClass,
+                  @Nullable final Class<? extends Annotation> annotation) {
+            this.fieldName = fieldName;
+            this.declaringClass = declaringClass;
+            this.annotation = annotation;
+        }
+
+        /**
+         * Returns the name a field must have in order to match.
+         *
+         * @return field name, or {@code null} if not known
+         */
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * Returns the class a field must be declared in order to match.
+         *
+         * @return declaring class, or {@code null} if not known
+         */
+        public Class<?> getDeclaringClass() {
+            return declaringClass;
+        }
+
+        /**
+         * Returns the annotation that must be declared
+         * by a field or class in order to match.
+         *
+         * @return annotation type, or {@code null} if not known
+         */
+        public Class<? extends Annotation> getAnnotation() {
+            return annotation;
+        }
+    }
 }
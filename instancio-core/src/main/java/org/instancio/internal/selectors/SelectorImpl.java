@@ -20,6 +20,7 @@ import org.instancio.Scope;
 import org.instancio.Selector;
 import org.instancio.TargetSelector;
 import org.instancio.internal.util.Format;
+import org.instancio.internal.util.StackTraceHolders;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -65,7 +66,7 @@ public class SelectorImpl implements Selector, GroupableSelector, Flattener, Unu
                  @Nullable final String fieldName,
                  final boolean isRoot) {
 
-        this(targetClass, fieldName, Collections.emptyList(), null, new Throwable(), isRoot);
+        this(targetClass, fieldName, Collections.emptyList(), null, StackTraceHolders.capture(), isRoot);
     }
 
     private SelectorImpl(final Builder builder) {
@@ -75,7 +76,7 @@ public class SelectorImpl implements Selector, GroupableSelector, Flattener, Unu
                 ? Collections.emptyList()
                 : Collections.unmodifiableList(builder.scopes);
         parent = builder.parent;
-        stackTraceHolder = builder.stackTraceHolder == null ? new Throwable() : builder.stackTraceHolder;
+        stackTraceHolder = builder.stackTraceHolder == null ? StackTraceHolders.capture() : builder.stackTraceHolder;
         isRoot = builder.isRoot;
     }
 
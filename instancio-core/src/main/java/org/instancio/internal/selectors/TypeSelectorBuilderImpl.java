@@ -26,11 +26,14 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
+import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
+
 @SuppressWarnings("PMD.InsufficientStringBufferDeclaration")
 public class TypeSelectorBuilderImpl implements TypeSelectorBuilder, SelectorBuilder {
 
     private final List<Predicate<Class<?>>> classPredicates = new ArrayList<>(3);
     private final StringBuilder description = new StringBuilder("types()");
+    private Class<? extends Annotation> indexAnnotation;
 
     @Override
     public TypeSelectorBuilder of(final Class<?> type) {
@@ -50,6 +53,7 @@ public class TypeSelectorBuilderImpl implements TypeSelectorBuilder, SelectorBui
                 "annotated", description.toString(), new Throwable()));
 
         classPredicates.add(klass -> klass.getDeclaredAnnotation(annotation) != null);
+        indexAnnotation = defaultIfNull(indexAnnotation, annotation);
         description.append(".annotated(").append(annotation.getSimpleName()).append(')');
         return this;
     }
@@ -71,7 +75,8 @@ public class TypeSelectorBuilderImpl implements TypeSelectorBuilder, SelectorBui
         for (Predicate<Class<?>> p : classPredicates) {
             predicate = predicate.and(p);
         }
-        return new PredicateSelectorImpl(SelectorTargetKind.CLASS, null, predicate, description.toString());
+        return new PredicateSelectorImpl(SelectorTargetKind.CLASS, null, predicate, description.toString(),
+                new PredicateSelectorImpl.IndexKeys(null, null, indexAnnotation));
     }
 
     @Override
@@ -32,6 +32,7 @@ public final class InternalKey<T>
     private final Object defaultValue;
     private final RangeAdjuster rangeAdjuster;
     private final boolean allowsNullValue;
+    private final int index;
 
     public InternalKey(final String propertyKey,
                        final Class<?> type,
@@ -39,11 +40,28 @@ public final class InternalKey<T>
                        @Nullable final RangeAdjuster rangeAdjuster,
                        boolean allowsNullValue) {
 
+        this(propertyKey, type, defaultValue, rangeAdjuster, allowsNullValue, -1);
+    }
+
+    /**
+     * Creates a key with the given index.
+     *
+     * @param index position of the key in {@link org.instancio.settings.Keys#all()},
+     *              or {@code -1} if this is not a built-in key
+     */
+    public InternalKey(final String propertyKey,
+                       final Class<?> type,
+                       @Nullable final Object defaultValue,
+                       @Nullable final RangeAdjuster rangeAdjuster,
+                       final boolean allowsNullValue,
+                       final int index) {
+
         this.propertyKey = propertyKey;
         this.type = type;
         this.defaultValue = defaultValue;
         this.rangeAdjuster = rangeAdjuster;
         this.allowsNullValue = allowsNullValue;
+        this.index = index;
     }
 
     @Override
@@ -68,6 +86,15 @@ public final class InternalKey<T>
         return allowsNullValue;
     }
 
+    /**
+     * Returns the position of this key in {@link org.instancio.settings.Keys#all()}.
+     *
+     * @return index of a built-in key, or {@code -1} for custom keys
+     */
+    public int index() {
+        return index;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <N extends Number & Comparable<N>> void autoAdjust(
@@ -26,6 +26,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -38,11 +39,27 @@ import static org.instancio.internal.ApiValidator.validateSubtype;
 public final class InternalSettings implements Settings {
     private static final String TYPE_MAPPING_PREFIX = "subtype.";
     private static final boolean AUTO_ADJUST_ENABLED = true;
+    private static final Object REQUIRES_CONVERSION = new Object();
 
     private boolean isLockedForModifications;
     private Map<SettingKey<?>, Object> settingsMap;
     private Map<Class<?>, Class<?>> subtypeMap;
 
+    /**
+     * Values of built-in keys indexed by {@link InternalKey#index()},
+     * created when the settings are locked.
+     */
+    private Object[] builtInValues;
+    private int hashCode;
+
+    /**
+     * The most recent result of merging these settings with others,
+     * if these settings had the highest precedence.
+     *
+     * @see MergedSettingsCache
+     */
+    volatile MergedSettingsCache.Entry mergedSettings; // NOPMD - replaced by immutable entries
+
     InternalSettings() {
         this.settingsMap = new HashMap<>();
         this.subtypeMap = new HashMap<>();
@@ -107,6 +124,13 @@ public final class InternalSettings implements Settings {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T get(@NotNull final SettingKey<T> key) {
+        if (builtInValues != null && key instanceof InternalKey) {
+            final int index = ((InternalKey<T>) key).index();
+            if (index >= 0 && builtInValues[index] != REQUIRES_CONVERSION) { // NOPMD
+                return (T) builtInValues[index];
+            }
+        }
+
         final Object value = settingsMap.get(ApiValidator.notNull(key, "Key must not be null"));
 
         if (value == null || key.type() == null || value.getClass() == key.type()) {
@@ -165,17 +189,67 @@ public final class InternalSettings implements Settings {
         if (!isLockedForModifications) {
             settingsMap = Collections.unmodifiableMap(settingsMap);
             subtypeMap = Collections.unmodifiableMap(subtypeMap);
+            builtInValues = createBuiltInValues();
             isLockedForModifications = true;
         }
         return this;
     }
 
+    /**
+     * Returns {@code true} if these settings have been locked
+     * and can no longer be modified.
+     *
+     * @return whether settings are locked
+     */
+    public boolean isLocked() {
+        return isLockedForModifications;
+    }
+
+    private Object[] createBuiltInValues() {
+        final List<SettingKey<Object>> keys = Keys.all();
+        final Object[] values = new Object[keys.size()];
+        for (int i = 0; i < values.length; i++) {
+            final SettingKey<Object> key = keys.get(i);
+            final Object value = settingsMap.get(key);
+
+            // values that need converting (for example, strings from a properties file)
+            // are converted on each get() to report invalid values the same way as before
+            values[i] = value == null || key.type() == null || value.getClass() == key.type()
+                    ? value : REQUIRES_CONVERSION;
+        }
+        return values;
+    }
+
     private void checkLockedForModifications() {
         if (isLockedForModifications) {
             throw new UnsupportedOperationException("This instance of Settings has been locked and is read-only");
         }
     }
 
+    /**
+     * Two settings are equal if they contain the same
+     * setting values and subtype mappings.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof InternalSettings)) return false;
+        final InternalSettings other = (InternalSettings) o;
+        return settingsMap.equals(other.settingsMap) && subtypeMap.equals(other.subtypeMap);
+    }
+
+    @Override
+    public int hashCode() {
+        if (!isLockedForModifications) {
+            return 31 * settingsMap.hashCode() + subtypeMap.hashCode();
+        }
+        // locked settings are used as cache keys, so the hash code is computed only once
+        if (hashCode == 0) {
+            hashCode = 31 * settingsMap.hashCode() + subtypeMap.hashCode();
+        }
+        return hashCode;
+    }
+
     @Override
     public String toString() {
         return String.format("Settings[%nisLockedForModifications: %s" +
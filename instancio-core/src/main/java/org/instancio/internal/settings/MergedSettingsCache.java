@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.settings;
+
+import org.instancio.Mode;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A cache of merged settings.
+ *
+ * <p>Each model merges the default settings (overlaid with
+ * {@code instancio.properties}), thread-local settings, and settings
+ * specified via the builder API into a new locked instance. Since
+ * locked settings cannot be modified, the merged result can be reused
+ * for the same inputs, provided all of them are locked. Models created
+ * with the same inputs therefore share a single instance of settings.
+ * If any of the inputs are not locked, the settings are merged without
+ * caching.
+ *
+ * <p>The merged result is stored on the input with the highest precedence,
+ * rather than in a global cache, so it can be garbage collected together
+ * with the input. This prevents the cache from keeping classes (and their
+ * class loaders) referenced by subtype mappings reachable.
+ *
+ * @since 2.13.0
+ */
+public final class MergedSettingsCache {
+
+    private MergedSettingsCache() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns locked settings resulting from merging the given settings,
+     * with latter settings taking precedence over former ones.
+     *
+     * @param base        locked base settings
+     * @param threadLocal thread-local settings, if any
+     * @param other       settings specified via the API, if any
+     * @param lenient     whether {@link Keys#MODE} should be set to lenient
+     * @return merged and locked settings
+     */
+    public static Settings get(@NotNull final Settings base,
+                               @Nullable final Settings threadLocal,
+                               @Nullable final Settings other,
+                               final boolean lenient) {
+
+        if (!isLocked(base) || !isLocked(threadLocal) || !isLocked(other)) {
+            return merge(base, threadLocal, other, lenient);
+        }
+
+        final InternalSettings holder = (InternalSettings) getHighestPrecedence(base, threadLocal, other);
+        final Entry entry = holder.mergedSettings;
+
+        if (entry != null && entry.matches(base, threadLocal, other, lenient)) {
+            return entry.merged;
+        }
+
+        final Settings merged = merge(base, threadLocal, other, lenient);
+        holder.mergedSettings = new Entry(base, threadLocal, other, lenient, merged);
+        return merged;
+    }
+
+    private static Settings getHighestPrecedence(final Settings base,
+                                                 @Nullable final Settings threadLocal,
+                                                 @Nullable final Settings other) {
+        if (other != null) {
+            return other;
+        }
+        return threadLocal == null ? base : threadLocal;
+    }
+
+    private static Settings merge(final Settings base,
+                                  @Nullable final Settings threadLocal,
+                                  @Nullable final Settings other,
+                                  final boolean lenient) {
+
+        if (threadLocal == null && other == null && !lenient) {
+            return base.lock();
+        }
+
+        final Settings settings = base.merge(threadLocal).merge(other);
+        if (lenient) {
+            settings.set(Keys.MODE, Mode.LENIENT);
+        }
+        return settings.lock();
+    }
+
+    private static boolean isLocked(@Nullable final Settings settings) {
+        return settings == null || ((InternalSettings) settings).isLocked();
+    }
+
+    /**
+     * The result of merging the given inputs. Inputs are compared
+     * by identity: an entry refers to specific locked instances,
+     * whose contents cannot change afterwards.
+     */
+    static final class Entry {
+        private final Settings base;
+        private final Settings threadLocal;
+        private final Settings other;
+        private final boolean lenient;
+        private final Settings merged;
+
+        private Entry(final Settings base,
+                      final Settings threadLocal,
+                      final Settings other,
+                      final boolean lenient,
+                      final Settings merged) {
+            this.base = base;
+            this.threadLocal = threadLocal;
+            this.other = other;
+            this.lenient = lenient;
+            this.merged = merged;
+        }
+
+        private boolean matches(final Settings base,
+                                final Settings threadLocal,
+                                final Settings other,
+                                final boolean lenient) {
+            return this.base == base // NOPMD
+                    && this.threadLocal == threadLocal // NOPMD
+                    && this.other == other // NOPMD
+                    && this.lenient == lenient;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.instancio.internal.settings;
 
 import org.instancio.Mode;
+import org.instancio.RandomEngine;
 import org.instancio.settings.Keys;
 import org.instancio.settings.SettingKey;
 
@@ -52,6 +53,7 @@ final class SettingsSupport {
         fnMap.put(String.class, String::valueOf);
         fnMap.put(Double.class, Double::valueOf);
         fnMap.put(Mode.class, Mode::valueOf);
+        fnMap.put(RandomEngine.class, RandomEngine::valueOf);
         return Collections.unmodifiableMap(fnMap);
     }
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.spi;
+
+import org.instancio.internal.util.ServiceLoaders;
+import org.instancio.settings.Settings;
+import org.instancio.spi.InstancioServiceProvider;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A process-wide cache of initialised service providers.
+ *
+ * <p>Loading {@link InstancioServiceProvider} implementations requires
+ * scanning {@code META-INF/services} resources using the context class loader,
+ * and instantiating and initialising each provider. Since providers are
+ * initialised using the model's settings, the loaded providers are cached
+ * per class loader and settings, and are shared by all models with
+ * equal settings.
+ *
+ * <p>Class loaders are weakly referenced, and the providers loaded by each
+ * class loader are softly referenced, since providers (and settings)
+ * may refer to classes defined by the class loader. Therefore, the cache
+ * does not prevent class loaders from being garbage collected.
+ *
+ * <p>If the available providers change without a change of the context
+ * class loader (for example, in tests), the cache can be cleared
+ * using {@link #clear()}.
+ */
+public final class ProvidersCache {
+
+    private static final int MAX_SIZE_PER_CLASS_LOADER = 64;
+
+    private static final Map<ClassLoader, SoftReference<Map<Settings, Providers>>> CACHE = new WeakHashMap<>();
+
+    private ProvidersCache() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns service providers initialised with the given settings.
+     * Providers are loaded using the context class loader
+     * the first time they are requested for the given settings.
+     *
+     * @param settings locked settings used for initialising the providers
+     * @return initialised service providers
+     */
+    public static Providers get(final Settings settings) {
+        final ClassLoader classLoader = ServiceLoaders.getClassLoader(); // NOPMD - context class loader
+
+        synchronized (CACHE) {
+            final Providers cached = getProviders(classLoader).get(settings);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        final Providers providers = new Providers(
+                ServiceLoaders.loadAll(InstancioServiceProvider.class, classLoader),
+                new InternalServiceProviderContext(settings));
+
+        synchronized (CACHE) {
+            // if another thread loaded the providers in the meantime, use those instead
+            final Providers cached = getProviders(classLoader).putIfAbsent(settings, providers);
+            return cached == null ? providers : cached;
+        }
+    }
+
+    /**
+     * Discards all cached providers, so that providers
+     * are reloaded the next time they are requested.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Returns providers cached for the given class loader.
+     * Must be called while holding the lock on the cache.
+     */
+    private static Map<Settings, Providers> getProviders(final ClassLoader classLoader) {
+        final SoftReference<Map<Settings, Providers>> ref = CACHE.get(classLoader);
+        Map<Settings, Providers> providers = ref == null ? null : ref.get();
+        if (providers == null) {
+            providers = new LinkedHashMap<Settings, Providers>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Settings, Providers> eldest) {
+                    return size() > MAX_SIZE_PER_CLASS_LOADER;
+                }
+            };
+            CACHE.put(classLoader, new SoftReference<>(providers));
+        }
+        return providers;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.instancio.internal.PrimitiveWrapperBiLookup;
+import org.instancio.internal.populator.Populators;
+import org.instancio.spi.FieldWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes field values using method handles that are
+ * resolved once per field and cached for the lifetime of the class.
+ *
+ * <p>If the field's declaring class has a populator generated by the
+ * annotation processor, values are assigned using its field writer.
+ *
+ * <p>Handles and writers are only used if the target is an instance
+ * of the declaring class and the value is an instance of the field type.
+ * Otherwise, or if a handle cannot be created, the operation falls back
+ * to {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+ * This ensures errors are reported, and primitive values widened,
+ * in the same way as when using reflection directly.
+ */
+public final class FieldAccessor {
+    private static final Logger LOG = LoggerFactory.getLogger(FieldAccessor.class);
+
+    /**
+     * Accessors stored per declaring class, so that cached fields
+     * and handles do not prevent the class from being unloaded.
+     */
+    private static final ClassValue<Map<Field, FieldAccessor>> CACHE = new ClassValue<Map<Field, FieldAccessor>>() {
+        @Override
+        protected Map<Field, FieldAccessor> computeValue(final Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final Class<?> type;
+    private final Class<?> valueType;
+    private final MethodHandle getter;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle setter;
+    private final FieldWriter writer;
+
+    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    private FieldAccessor(final Field field) {
+        this.field = field;
+        this.type = field.getType();
+        this.valueType = type.isPrimitive() ? PrimitiveWrapperBiLookup.getEquivalent(type) : type;
+
+        MethodHandle g = null;
+        MethodHandle pg = null;
+        MethodHandle s = null;
+        if (!Modifier.isStatic(field.getModifiers())) {
+            try {
+                field.setAccessible(true);
+                final MethodHandles.Lookup lookup = MethodHandles.lookup();
+                g = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                if (type.isPrimitive()) {
+                    // (Object)primitive, used for checking default values without boxing
+                    pg = lookup.unreflectGetter(field).asType(MethodType.methodType(type, Object.class));
+                }
+                s = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (Exception ex) {
+                // operations that could not be resolved will use reflection
+                LOG.trace("Could not create method handles for field {}", field, ex);
+            }
+        }
+        this.getter = g;
+        this.primitiveGetter = pg;
+        this.setter = s;
+        this.writer = Populators.getFieldWriter(field);
+    }
+
+    /**
+     * Returns the accessor for the given field.
+     *
+     * @param field to access
+     * @return cached accessor for the field
+     */
+    public static FieldAccessor of(final Field field) {
+        final Map<Field, FieldAccessor> accessors = CACHE.get(field.getDeclaringClass());
+        final FieldAccessor accessor = accessors.get(field);
+        return accessor != null ? accessor : accessors.computeIfAbsent(field, FieldAccessor::new);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the value of the field.
+     *
+     * @param target the object whose field value to return
+     * @return field value
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    public Object get(final Object target) throws IllegalAccessException {
+        if (getter != null && isValidTarget(target)) {
+            try {
+                return getter.invokeExact(target);
+            } catch (Throwable ex) { //NOPMD
+                throw unchecked(ex);
+            }
+        }
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    /**
+     * Assigns the value to the field.
+     *
+     * @param target the object whose field to set
+     * @param value  the value to assign
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    public void set(final Object target, final Object value) throws IllegalAccessException {
+        if ((writer != null || setter != null) && isValidTarget(target) && isValidValue(value)) {
+            if (writer != null) {
+                writer.write(target, value);
+                return;
+            }
+            try {
+                setter.invokeExact(target, value);
+                return;
+            } catch (Throwable ex) { //NOPMD
+                throw unchecked(ex);
+            }
+        }
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    /**
+     * Checks whether the field has a value that is neither {@code null}
+     * nor the default value of a primitive type. Primitive fields
+     * are read without boxing the value.
+     *
+     * @param target the object whose field value to check
+     * @return {@code true} if the field has a non-default value
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    public boolean hasNonDefaultValue(final Object target) throws IllegalAccessException {
+        if (primitiveGetter != null && isValidTarget(target)) {
+            try {
+                return hasNonDefaultPrimitiveValue(target);
+            } catch (Throwable ex) { //NOPMD
+                throw unchecked(ex);
+            }
+        }
+        return ReflectionUtils.neitherNullNorPrimitiveWithDefaultValue(type, get(target));
+    }
+
+    private boolean isValidTarget(final Object target) {
+        return field.getDeclaringClass().isInstance(target);
+    }
+
+    private boolean isValidValue(final Object value) {
+        return value == null ? !type.isPrimitive() : valueType.isInstance(value);
+    }
+
+    // Floating point values are compared using their bit representation
+    // for consistency with equals(), e.g. -0.0 is not a default value.
+    private boolean hasNonDefaultPrimitiveValue(final Object target) throws Throwable {
+        if (type == int.class) return (int) primitiveGetter.invokeExact(target) != 0;
+        if (type == long.class) return (long) primitiveGetter.invokeExact(target) != 0L;
+        if (type == boolean.class) return (boolean) primitiveGetter.invokeExact(target);
+        if (type == double.class) return Double.doubleToLongBits((double) primitiveGetter.invokeExact(target)) != 0L;
+        if (type == float.class) return Float.floatToIntBits((float) primitiveGetter.invokeExact(target)) != 0;
+        if (type == char.class) return (char) primitiveGetter.invokeExact(target) != '\u0000';
+        if (type == byte.class) return (byte) primitiveGetter.invokeExact(target) != 0;
+        return (short) primitiveGetter.invokeExact(target) != 0;
+    }
+
+    private static RuntimeException unchecked(final Throwable ex) {
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+        return ex instanceof RuntimeException ? (RuntimeException) ex : new IllegalStateException(ex);
+    }
+}
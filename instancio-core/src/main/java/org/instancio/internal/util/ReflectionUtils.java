@@ -69,11 +69,9 @@ public final class ReflectionUtils {
         }
     }
 
-    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
     public static Object getFieldValue(final Field field, final Object target) {
         try {
-            field.setAccessible(true);
-            return field.get(target);
+            return FieldAccessor.of(field).get(target);
         } catch (Exception ex) {
             throw new InstancioException("Unable to get value from: " + field, ex);
         }
@@ -83,10 +81,20 @@ public final class ReflectionUtils {
         return getFieldValue(field, object) != null;
     }
 
-    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
     public static boolean hasNonNullOrNonDefaultPrimitiveValue(final Field field, final Object object) {
-        final Object fieldValue = getFieldValue(field, object);
-        return neitherNullNorPrimitiveWithDefaultValue(field.getType(), fieldValue);
+        try {
+            return FieldAccessor.of(field).hasNonDefaultValue(object);
+        } catch (Exception ex) {
+            throw new InstancioException("Unable to get value from: " + field, ex);
+        }
+    }
+
+    public static boolean hasNonNullOrNonDefaultPrimitiveValue(final FieldAccessor accessor, final Object object) {
+        try {
+            return accessor.hasNonDefaultValue(object);
+        } catch (Exception ex) {
+            throw new InstancioException("Unable to get value from: " + accessor.getField(), ex);
+        }
     }
 
     public static boolean isArrayOrConcrete(final Class<?> klass) {
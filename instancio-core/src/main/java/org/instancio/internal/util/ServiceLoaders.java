@@ -27,7 +27,11 @@ public final class ServiceLoaders {
     }
 
     public static <T> List<T> loadAll(final Class<T> spi) {
-        final ServiceLoader<T> serviceLoader = ServiceLoader.load(spi, getClassLoader());
+        return loadAll(spi, getClassLoader());
+    }
+
+    public static <T> List<T> loadAll(final Class<T> spi, final ClassLoader classLoader) {
+        final ServiceLoader<T> serviceLoader = ServiceLoader.load(spi, classLoader);
         final List<T> providers = new ArrayList<>();
         for (T service : serviceLoader) {
             providers.add(service);
@@ -35,7 +39,14 @@ public final class ServiceLoaders {
         return Collections.unmodifiableList(providers);
     }
 
-    private static ClassLoader getClassLoader() {
+    /**
+     * Returns the class loader used for loading services,
+     * which is the current thread's context class loader, if set,
+     * or the system class loader otherwise.
+     *
+     * @return class loader for loading services
+     */
+    public static ClassLoader getClassLoader() {
         final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         return classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
     }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+/**
+ * Helper class for capturing the location where a selector was created,
+ * used for reporting unused selectors.
+ * This class has different implementations depending on Java version.
+ */
+public final class StackTraceHolders {
+
+    private StackTraceHolders() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns a throwable containing the stacktrace of the caller.
+     *
+     * @return a stacktrace holder
+     * @see Format#firstNonInstancioStackTraceLine(Throwable)
+     */
+    public static Throwable capture() {
+        return new Throwable();
+    }
+}
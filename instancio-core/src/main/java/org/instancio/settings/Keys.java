@@ -16,6 +16,7 @@
 package org.instancio.settings;
 
 import org.instancio.Mode;
+import org.instancio.RandomEngine;
 import org.instancio.assignment.AssignmentType;
 import org.instancio.assignment.OnSetFieldError;
 import org.instancio.assignment.OnSetMethodError;
@@ -321,6 +322,30 @@ public final class Keys {
     @ExperimentalApi
     public static final SettingKey<Boolean> BEAN_VALIDATION_ENABLED = register(
             "bean.validation.enabled", Boolean.class, false);
+    /**
+     * Specifies whether the internal representation of the class being
+     * generated should be built lazily, as the object is being populated;
+     * default is {@code false}; property name {@code lazy.node.expansion.enabled}.
+     *
+     * <p>By default, the entire hierarchy of the class, up to the
+     * {@link #MAX_DEPTH}, is resolved before any values are generated.
+     * When this setting is enabled, only the parts of the hierarchy that are
+     * actually populated are resolved. This reduces the overhead of generating
+     * objects with large class hierarchies, in which many branches are not
+     * populated, for example, due to {@code ignore()}, {@code withNullable()},
+     * or objects provided via {@code supply()}.
+     *
+     * <p>In strict mode, if any {@code ignore()} or {@code subtype()}
+     * selectors remain unused after an object has been populated,
+     * the remaining hierarchy is resolved before checking for unused
+     * selectors. This ensures that selectors targeting branches that were
+     * not populated are not reported as unused.
+     *
+     * @since 2.13.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Boolean> LAZY_NODE_EXPANSION_ENABLED = register(
+            "lazy.node.expansion.enabled", Boolean.class, false);
     /**
      * Specifies the maximum depth of the generated object tree;
      * default is {@code 8}; property name {@code max.depth}.
@@ -329,6 +354,21 @@ public final class Keys {
      */
     public static final SettingKey<Integer> MAX_DEPTH = register(
             "max.depth", Integer.class, 8);
+    /**
+     * Specifies the pseudorandom number generator used for generating values;
+     * default is {@link RandomEngine#JAVA_UTIL_RANDOM}; property name {@code random.engine}.
+     *
+     * <p>The default engine should be used for reproducing objects
+     * generated with seeds using previous versions of Instancio.
+     * The other engines are faster, but produce different values
+     * for a given seed.
+     *
+     * @see RandomEngine
+     * @since 2.13.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<RandomEngine> RANDOM_ENGINE = register(
+            "random.engine", RandomEngine.class, RandomEngine.JAVA_UTIL_RANDOM);
     /**
      * Specifies the seed value;
      * default is {@code null}; property name {@code seed}.
@@ -446,7 +486,7 @@ public final class Keys {
             final boolean allowsNullValue) {
 
         final SettingKey<T> settingKey = new InternalKey<>(
-                propertyKey, type, defaultValue, rangeAdjuster, allowsNullValue);
+                propertyKey, type, defaultValue, rangeAdjuster, allowsNullValue, ALL_KEYS.size());
 
         ALL_KEYS.add((SettingKey<Object>) settingKey);
         return settingKey;
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi;
+
+import org.instancio.documentation.ExperimentalApi;
+
+/**
+ * Assigns a value to a field without using reflection.
+ *
+ * @see Populator#getFieldWriter(String)
+ * @since 2.13.0
+ */
+@ExperimentalApi
+@FunctionalInterface
+public interface FieldWriter {
+
+    /**
+     * Assigns the value to the field.
+     *
+     * @param target the object whose field to set
+     * @param value  the value to assign
+     * @throws ClassCastException if the target or value is of the wrong type
+     */
+    void write(Object target, Object value);
+}
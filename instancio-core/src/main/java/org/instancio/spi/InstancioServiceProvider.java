@@ -41,6 +41,11 @@ import java.util.ServiceLoader;
  * Instancio will invoke each of the above methods only once, therefore,
  * these methods may contain initialisation logic.
  *
+ * <p>Initialised providers are cached and shared by all objects
+ * created with equal {@link Settings}, including objects created
+ * concurrently. Therefore, providers should not hold mutable state
+ * that is specific to a single object or thread.
+ *
  * <p>This class uses the {@link ServiceLoader} mechanism. Therefore,
  * implementations must be registered by placing a file named
  * {@code org.instancio.spi.InstancioServiceProvider} under
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi;
+
+import org.instancio.documentation.ExperimentalApi;
+
+/**
+ * Populator for use in generated classes only.
+ *
+ * <p>A populator is generated by the annotation processor for a given class
+ * and provides direct, reflection-free access to the class's constructor
+ * and fields. It is named after the class it populates, with the
+ * {@code _InstancioPopulator} suffix, and is placed in the same package,
+ * so that it can access package-private members.
+ *
+ * <p>This interface is not intended to be implemented by hand.
+ *
+ * @see FieldWriter
+ * @since 2.13.0
+ */
+@ExperimentalApi
+public interface Populator {
+
+    /**
+     * Creates a new instance of the populated class
+     * using its no-argument constructor.
+     *
+     * @return a new instance, or {@code null} if the class does not have
+     * an accessible no-argument constructor
+     */
+    Object newInstance();
+
+    /**
+     * Returns a writer for the given field.
+     *
+     * @param fieldName name of a field declared by the populated class
+     * @return field writer, or {@code null} if the field cannot be
+     * assigned directly (for example, if it is {@code private} or {@code final})
+     */
+    FieldWriter getFieldWriter(String fieldName);
+}
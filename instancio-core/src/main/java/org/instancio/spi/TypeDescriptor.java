@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.reflection.GeneratedTypes;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Type descriptor for use in generated classes only.
+ *
+ * <p>A type descriptor is generated by the annotation processor for a given
+ * class and provides the generic types of the class's fields and superclass,
+ * so that they do not need to be resolved using reflection when building
+ * a model. It is named after the class it describes, with the
+ * {@code _InstancioTypeDescriptor} suffix, and is placed in the same package.
+ *
+ * <p>Types returned by a descriptor are equal to those returned by
+ * {@link java.lang.reflect.Field#getGenericType()} and
+ * {@link Class#getGenericSuperclass()}.
+ *
+ * <p>This interface is not intended to be implemented by hand.
+ *
+ * @since 2.13.0
+ */
+@ExperimentalApi
+public interface TypeDescriptor {
+
+    /**
+     * Returns the generic superclass of the described class.
+     *
+     * @return generic superclass, or {@code null} if it is not described
+     */
+    Type getGenericSuperclass();
+
+    /**
+     * Returns the generic type of the given field.
+     *
+     * @param fieldName name of a field declared by the described class
+     * @return generic type of the field, or {@code null} if it is not
+     * described (for example, if the type cannot be referenced
+     * from the descriptor's package)
+     */
+    Type getGenericType(String fieldName);
+
+    /**
+     * Creates a parameterized type.
+     *
+     * @param rawType       the raw type
+     * @param ownerType     the owner type, or {@code null} to use
+     *                      the class declaring the raw type, if any
+     * @param typeArguments actual type arguments
+     * @return parameterized type
+     */
+    static ParameterizedType parameterizedType(
+            final Class<?> rawType, final Type ownerType, final Type... typeArguments) {
+
+        return GeneratedTypes.parameterizedType(rawType, ownerType, typeArguments);
+    }
+
+    /**
+     * Creates a generic array type.
+     *
+     * @param componentType generic component type
+     * @return generic array type
+     */
+    static GenericArrayType genericArrayType(final Type componentType) {
+        return GeneratedTypes.genericArrayType(componentType);
+    }
+
+    /**
+     * Creates a wildcard type.
+     *
+     * @param upperBounds upper bounds, {@code Object} if none
+     * @param lowerBounds lower bounds, empty if none
+     * @return wildcard type
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    static WildcardType wildcardType(final Type[] upperBounds, final Type[] lowerBounds) {
+        return GeneratedTypes.wildcardType(upperBounds, lowerBounds);
+    }
+}
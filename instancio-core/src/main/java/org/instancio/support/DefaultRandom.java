@@ -16,16 +16,26 @@
 package org.instancio.support;
 
 import org.instancio.Random;
+import org.instancio.RandomEngine;
 import org.instancio.documentation.InternalApi;
 import org.instancio.internal.random.RandomDataGenerator;
+import org.instancio.internal.random.RandomEngines;
 import org.instancio.internal.util.Verify;
+import org.instancio.settings.Keys;
 
 import java.util.Collection;
 
 @InternalApi
 public class DefaultRandom implements Random {
 
+    private static final char[] DIGIT_CHARS = "0123456789".toCharArray();
+    private static final char[] LOWER_CASE_CHARS = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final char[] UPPER_CASE_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] MIXED_CASE_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] ALPHANUMERIC_CHARS = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
     private final long seed;
+    private final RandomEngine engine;
     private final java.util.Random random;
 
     /**
@@ -41,8 +51,20 @@ public class DefaultRandom implements Random {
      * @param seed for the random generator
      */
     public DefaultRandom(final long seed) {
+        this(seed, Keys.RANDOM_ENGINE.defaultValue());
+    }
+
+    /**
+     * Create an instance with the given seed value and engine.
+     *
+     * @param seed   for the random generator
+     * @param engine the random number generator to use
+     * @since 2.13.0
+     */
+    public DefaultRandom(final long seed, final RandomEngine engine) {
         this.seed = seed;
-        this.random = new java.util.Random(seed); // NOSONAR
+        this.engine = engine;
+        this.random = RandomEngines.create(engine, seed);
     }
 
     @Override
@@ -50,6 +72,16 @@ public class DefaultRandom implements Random {
         return seed;
     }
 
+    /**
+     * Returns the random number generator used by this instance.
+     *
+     * @return the engine
+     * @since 2.13.0
+     */
+    public RandomEngine getEngine() {
+        return engine;
+    }
+
     @Override
     public boolean trueOrFalse() {
         return intRange(0, 1) == 1;
@@ -100,11 +132,15 @@ public class DefaultRandom implements Random {
 
     @Override
     public char characterRange(final char min, final char max) {
-        return (char) longRange(min, max);
+        Verify.closedRange(min, max);
+        return (char) (min + RandomDataGenerator.nextIndex(random, max - min + 1));
     }
 
     @Override
     public char character() {
+        if (isBuffered()) {
+            return MIXED_CASE_CHARS[RandomDataGenerator.nextIndex(random, MIXED_CASE_CHARS.length)];
+        }
         return trueOrFalse() ? lowerCaseCharacter() : upperCaseCharacter();
     }
 
@@ -120,6 +156,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public char alphanumericCharacter() {
+        if (isBuffered()) {
+            return ALPHANUMERIC_CHARS[RandomDataGenerator.nextIndex(random, ALPHANUMERIC_CHARS.length)];
+        }
         return longRange(0, 2) == 1 ? digitChar() : character();
     }
 
@@ -129,32 +168,17 @@ public class DefaultRandom implements Random {
 
     @Override
     public String lowerCaseAlphabetic(final int length) {
-        char[] s = new char[length];
-        for (int i = 0; i < length; i++) {
-            s[i] = lowerCaseCharacter();
-        }
-
-        return new String(s);
+        return stringOf(length, LOWER_CASE_CHARS);
     }
 
     @Override
     public String upperCaseAlphabetic(final int length) {
-        char[] s = new char[length];
-        for (int i = 0; i < length; i++) {
-            s[i] = upperCaseCharacter();
-        }
-
-        return new String(s);
+        return stringOf(length, UPPER_CASE_CHARS);
     }
 
     @Override
     public String digits(final int length) {
-        char[] s = new char[length];
-        for (int i = 0; i < length; i++) {
-            s[i] = digitChar();
-        }
-
-        return new String(s);
+        return stringOf(length, DIGIT_CHARS);
     }
 
     @Override
@@ -164,15 +188,16 @@ public class DefaultRandom implements Random {
                 "Character array must have at least one element");
 
         char[] s = new char[length];
-        for (int i = 0; i < length; i++) {
-            s[i] = chars[intRange(0, chars.length - 1)];
-        }
-
+        RandomDataGenerator.nextChars(random, s, chars);
         return new String(s);
     }
 
     @Override
     public String alphanumeric(final int length) {
+        if (isBuffered()) {
+            return stringOf(length, ALPHANUMERIC_CHARS);
+        }
+
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = alphanumericCharacter();
@@ -183,6 +208,10 @@ public class DefaultRandom implements Random {
 
     @Override
     public String mixedCaseAlphabetic(final int length) {
+        if (isBuffered()) {
+            return stringOf(length, MIXED_CASE_CHARS);
+        }
+
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = character();
@@ -191,6 +220,16 @@ public class DefaultRandom implements Random {
         return new String(s);
     }
 
+    /**
+     * Engines other than {@link RandomEngine#JAVA_UTIL_RANDOM} generate
+     * characters using buffered random bits, choosing uniformly from
+     * the whole alphabet. The default engine preserves the original
+     * algorithm so that values generated using a given seed do not change.
+     */
+    private boolean isBuffered() {
+        return engine != RandomEngine.JAVA_UTIL_RANDOM;
+    }
+
     @Override
     public <T> T oneOf(final T[] array) {
         Verify.notEmpty(array, "Array must have at least one element");
@@ -19,6 +19,7 @@ import org.instancio.Random;
 import org.instancio.documentation.InternalApi;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.context.PropertiesLoader;
+import org.instancio.internal.settings.MergedSettingsCache;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.jetbrains.annotations.NotNull;
@@ -31,8 +32,16 @@ public final class Global {
             .merge(Settings.from(PropertiesLoader.loadDefaultPropertiesFile()))
             .lock();
 
-    private static final Random CONFIGURED_RANDOM = PROPERTIES_FILE_SETTINGS.get(Keys.SEED) == null
-            ? null : new DefaultRandom(PROPERTIES_FILE_SETTINGS.get(Keys.SEED));
+    /**
+     * Random instances seeded from the properties file, confined to a thread.
+     * Each thread starts its own sequence using the configured seed, which
+     * avoids contention between threads and makes generated values
+     * independent of how threads are interleaved.
+     */
+    private static final ThreadLocal<Random> CONFIGURED_RANDOM = PROPERTIES_FILE_SETTINGS.get(Keys.SEED) == null
+            ? null : ThreadLocal.withInitial(() -> new DefaultRandom(
+            PROPERTIES_FILE_SETTINGS.get(Keys.SEED),
+            PROPERTIES_FILE_SETTINGS.get(Keys.RANDOM_ENGINE)));
 
     /**
      * Default settings overlaid with settings from {@code instancio.properties}.
@@ -44,13 +53,29 @@ public final class Global {
         return PROPERTIES_FILE_SETTINGS;
     }
 
+    /**
+     * Returns the seed specified in {@code instancio.properties}.
+     *
+     * @return configured seed, or {@code null} if seed is not configured
+     */
+    @Nullable
+    public static Long getConfiguredSeed() {
+        return PROPERTIES_FILE_SETTINGS.get(Keys.SEED);
+    }
+
+    /**
+     * Returns the current thread's random instance seeded
+     * using the seed from {@code instancio.properties}.
+     *
+     * @return configured random, or {@code null} if seed is not configured
+     */
     @Nullable
     public static Random getConfiguredRandom() {
-        return CONFIGURED_RANDOM;
+        return CONFIGURED_RANDOM == null ? null : CONFIGURED_RANDOM.get();
     }
 
     public static GeneratorContext generatorContext() {
-        return new GeneratorContext(resolveSettings(), CONFIGURED_RANDOM);
+        return new GeneratorContext(resolveSettings(), getConfiguredRandom());
     }
 
     private static Settings resolveSettings() {
@@ -58,7 +83,7 @@ public final class Global {
 
         return tls == null
                 ? PROPERTIES_FILE_SETTINGS
-                : PROPERTIES_FILE_SETTINGS.merge(tls).lock();
+                : MergedSettingsCache.get(PROPERTIES_FILE_SETTINGS, tls, null, false);
     }
 
     private Global() {
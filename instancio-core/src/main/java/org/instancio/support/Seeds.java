@@ -37,6 +37,11 @@ public final class Seeds {
      */
     private static final int NUM_BITS_62 = 62;
 
+    /**
+     * Increment used by the SplitMix64 algorithm ({@code 2^64 / golden ratio}).
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
     private Seeds() {
@@ -47,4 +52,24 @@ public final class Seeds {
         // For user convenience, generate only positive seeds.
         return new BigInteger(NUM_BITS_62, SECURE_RANDOM).longValue();
     }
+
+    /**
+     * Derives a seed for the element at the given index of a stream
+     * whose elements are generated using independent seeds.
+     * <p>
+     * The derivation is based on the SplitMix64 algorithm: it depends
+     * only on the base seed and the index, therefore a seed for any
+     * index can be computed in constant time.
+     *
+     * @param seed  base seed
+     * @param index of the element
+     * @return derived seed
+     * @since 2.13.0
+     */
+    public static long deriveSeed(final long seed, final long index) {
+        long z = seed + (index + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
 }
@@ -19,40 +19,76 @@ import org.instancio.exception.InstancioException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.RecordComponent;
+import java.util.Optional;
 
 public final class RecordUtils {
     private static final Logger LOG = LoggerFactory.getLogger(RecordUtils.class);
 
+    private static final ClassValue<Class<?>[]> COMPONENT_TYPES = new ClassValue<Class<?>[]>() {
+        @Override
+        protected Class<?>[] computeValue(final Class<?> recordClass) {
+            final RecordComponent[] components = recordClass.getRecordComponents();
+            final Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = components[i].getType();
+            }
+            return types;
+        }
+    };
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * Canonical constructors as method handles of type {@code (Object[])Object}
+     * that spread the array into constructor arguments.
+     */
+    private static final ClassValue<Optional<MethodHandle>> CONSTRUCTORS = new ClassValue<Optional<MethodHandle>>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(final Class<?> recordClass) {
+            final Constructor<?> ctor = getCanonicalConstructor(recordClass);
+            if (ctor == null) {
+                return Optional.empty();
+            }
+            ctor.setAccessible(true); // NOSONAR
+            try {
+                return Optional.of(MethodHandles.lookup().unreflectConstructor(ctor)
+                        .asSpreader(Object[].class, ctor.getParameterCount())
+                        .asType(CONSTRUCTOR_TYPE));
+            } catch (IllegalAccessException ex) {
+                throw new InstancioException("Unable to access canonical constructor of record: " + recordClass, ex);
+            }
+        }
+    };
+
+    @SuppressWarnings({"unchecked", Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE})
     public static <T> T instantiate(final Class<T> recordClass, final Object... args) {
         Verify.isTrue(recordClass.isRecord(), "Class '%s' is not a record!", recordClass.getName());
 
         try {
-            final Constructor<?> ctor = getCanonicalConstructor(recordClass);
+            final MethodHandle ctor = CONSTRUCTORS.get(recordClass).orElse(null);
             if (ctor == null) {
                 return null;
             }
-            ctor.setAccessible(true); // NOSONAR
-            return (T) ctor.newInstance(args);
-        } catch (Exception ex) {
+            return (T) ctor.invokeExact(args);
+        } catch (Error error) { //NOPMD
+            throw error;
+        } catch (Throwable ex) { //NOPMD
             throw new InstancioException("Error creating a record: " + recordClass, ex);
         }
     }
 
     public static Class<?>[] getComponentTypes(final Class<?> recordClass) {
-        final RecordComponent[] components = recordClass.getRecordComponents();
-        final Class<?>[] args = new Class<?>[components.length];
-        for (int i = 0; i < args.length; i++) {
-            args[i] = components[i].getType();
-        }
-        return args;
+        return COMPONENT_TYPES.get(recordClass).clone();
     }
 
     private static Constructor<?> getCanonicalConstructor(final Class<?> recordClass) {
-        final Class<?>[] componentTypes = getComponentTypes(recordClass);
         try {
-            return recordClass.getDeclaredConstructor(componentTypes);
+            return recordClass.getDeclaredConstructor(COMPONENT_TYPES.get(recordClass));
         } catch (NoSuchMethodException ex) {
             LOG.debug("Unable to resolve canonical constructor for record class '{}'", recordClass.getName());
             return null;
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+/**
+ * Captures the location where a selector was created using a {@link StackWalker}.
+ * Instead of filling in the entire stacktrace, only the frames up to
+ * the first non-Instancio frame are walked, and only that frame is retained.
+ */
+public final class StackTraceHolders {
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final StackTraceElement[] UNKNOWN_LOCATION = new StackTraceElement[0];
+
+    private StackTraceHolders() {
+        // non-instantiable
+    }
+
+    public static Throwable capture() {
+        final StackWalker.StackFrame frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> !f.getClassName().startsWith("org.instancio"))
+                .findFirst()
+                .orElse(null));
+
+        return new CallSite(frame);
+    }
+
+    /**
+     * A throwable whose stacktrace consists of the call site only.
+     * The stacktrace element is created when it is requested.
+     */
+    @SuppressWarnings("PMD.NonSerializableClass")
+    private static final class CallSite extends Throwable {
+        private static final long serialVersionUID = 1L;
+
+        private final transient StackWalker.StackFrame frame;
+
+        private CallSite(final StackWalker.StackFrame frame) {
+            super(null, null, false, false);
+            this.frame = frame;
+        }
+
+        @Override
+        public StackTraceElement[] getStackTrace() {
+            return frame == null
+                    ? UNKNOWN_LOCATION
+                    : new StackTraceElement[]{frame.toStackTraceElement()};
+        }
+    }
+}
@@ -15,9 +15,11 @@
  */
 package org.instancio.junit.internal;
 
+import org.instancio.RandomEngine;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.junit.Seed;
 import org.instancio.junit.WithSettings;
+import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.instancio.support.DefaultRandom;
 import org.instancio.support.Global;
@@ -42,7 +44,7 @@ public final class ExtensionSupport {
 
         try {
             ExtensionSupport.processWithSettingsAnnotation(context, threadLocalSettings);
-            ExtensionSupport.processSeedAnnotation(context, threadLocalRandom);
+            ExtensionSupport.processSeedAnnotation(context, threadLocalRandom, threadLocalSettings);
         } catch (Exception ex) {
             threadLocalRandom.remove();
             threadLocalSettings.remove();
@@ -52,7 +54,8 @@ public final class ExtensionSupport {
 
     private static void processSeedAnnotation(
             final ExtensionContext context,
-            final ThreadLocalRandom threadLocalRandom) {
+            final ThreadLocalRandom threadLocalRandom,
+            final ThreadLocalSettings threadLocalSettings) {
 
         final Optional<Method> testMethod = context.getTestMethod();
         if (testMethod.isPresent()) {
@@ -61,18 +64,30 @@ public final class ExtensionSupport {
 
             if (seedAnnotation != null) {
                 seed = seedAnnotation.value();
-            } else if (Global.getConfiguredRandom() != null) {
-                seed = Global.getConfiguredRandom().getSeed();
+            } else if (Global.getConfiguredSeed() != null) {
+                seed = Global.getConfiguredSeed();
             } else {
                 seed = Seeds.randomSeed();
             }
 
             // each test method gets a new instance of random to avoid
             // the state of the random leaking across tests
-            threadLocalRandom.set(new DefaultRandom(seed));
+            threadLocalRandom.set(new DefaultRandom(seed, getRandomEngine(threadLocalSettings)));
         }
     }
 
+    /**
+     * Resolves the engine from {@code @WithSettings}, if specified,
+     * otherwise from {@code instancio.properties}.
+     */
+    private static RandomEngine getRandomEngine(final ThreadLocalSettings threadLocalSettings) {
+        final Settings settings = threadLocalSettings.get();
+        final RandomEngine engine = settings == null ? null : settings.get(Keys.RANDOM_ENGINE);
+        return engine == null
+                ? Global.getPropertiesFileSettings().get(Keys.RANDOM_ENGINE)
+                : engine;
+    }
+
     @SuppressWarnings({"java:S3011", "PMD.CyclomaticComplexity"})
     private static void processWithSettingsAnnotation(
             final ExtensionContext context,
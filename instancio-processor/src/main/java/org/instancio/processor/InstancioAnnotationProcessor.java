@@ -40,17 +40,21 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
-@SupportedOptions({"instancio.verbose", "instancio.suffix"})
+@SupportedOptions({"instancio.verbose", "instancio.suffix", "instancio.populators", "instancio.typeDescriptors"})
 @SupportedAnnotationTypes("org.instancio.InstancioMetamodel")
 public final class InstancioAnnotationProcessor extends AbstractProcessor {
     private static final String CLASSES_ATTRIBUTE = "classes";
     private static final String TRUE = "true";
     private final MetamodelSourceGenerator sourceGenerator = new MetamodelSourceGenerator();
+    private final PopulatorSourceGenerator populatorSourceGenerator = new PopulatorSourceGenerator();
+    private final TypeDescriptorSourceGenerator typeDescriptorSourceGenerator = new TypeDescriptorSourceGenerator();
 
     private Types typeUtils;
     private Elements elementUtils;
     private Logger logger;
     private String classNameSuffix;
+    private boolean generatePopulators;
+    private boolean generateTypeDescriptors;
 
     @Override
     @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
@@ -61,6 +65,8 @@ public final class InstancioAnnotationProcessor extends AbstractProcessor {
         this.logger = new Logger(processingEnv.getMessager(),
                 TRUE.equalsIgnoreCase(processingEnv.getOptions().get("instancio.verbose")));
         this.classNameSuffix = processingEnv.getOptions().get("instancio.suffix");
+        this.generatePopulators = TRUE.equalsIgnoreCase(processingEnv.getOptions().get("instancio.populators"));
+        this.generateTypeDescriptors = TRUE.equalsIgnoreCase(processingEnv.getOptions().get("instancio.typeDescriptors"));
     }
 
     @Override
@@ -91,7 +97,15 @@ public final class InstancioAnnotationProcessor extends AbstractProcessor {
                     .filter(av -> av.getValue() instanceof TypeMirror)
                     .map(av -> typeUtils.asElement((TypeMirror) av.getValue()))
                     .filter(e -> e instanceof QualifiedNameable)
-                    .forEach(e -> writeSourceFile(new MetamodelClass((QualifiedNameable) e, classNameSuffix), rootType));
+                    .forEach(e -> {
+                        writeSourceFile(new MetamodelClass((QualifiedNameable) e, classNameSuffix), rootType);
+                        if (generatePopulators) {
+                            writePopulatorSourceFile(new PopulatorClass((QualifiedNameable) e), rootType);
+                        }
+                        if (generateTypeDescriptors) {
+                            writeTypeDescriptorSourceFile(new TypeDescriptorClass((QualifiedNameable) e), rootType);
+                        }
+                    });
         }
 
         return true;
@@ -109,6 +123,40 @@ public final class InstancioAnnotationProcessor extends AbstractProcessor {
         }
     }
 
+    private void writePopulatorSourceFile(final PopulatorClass populatorClass, final Element element) {
+        if (!populatorClass.isAccessible()) {
+            logger.debug("Skipping populator for inaccessible class: %s", populatorClass);
+            return;
+        }
+
+        final Filer filer = processingEnv.getFiler();
+        final String filename = populatorClass.getPopulatorClassName();
+
+        try (Writer writer = new BufferedWriter(filer.createSourceFile(filename, element).openWriter())) {
+            logger.debug("Generating populator class: %s", filename);
+            writer.write(populatorSourceGenerator.getSource(populatorClass));
+        } catch (Exception ex) {
+            logger.warn("Error generating populator for '%s'", populatorClass, ex);
+        }
+    }
+
+    private void writeTypeDescriptorSourceFile(final TypeDescriptorClass typeDescriptorClass, final Element element) {
+        if (!typeDescriptorClass.isAccessible()) {
+            logger.debug("Skipping type descriptor for inaccessible class: %s", typeDescriptorClass);
+            return;
+        }
+
+        final Filer filer = processingEnv.getFiler();
+        final String filename = typeDescriptorClass.getTypeDescriptorClassName();
+
+        try (Writer writer = new BufferedWriter(filer.createSourceFile(filename, element).openWriter())) {
+            logger.debug("Generating type descriptor class: %s", filename);
+            writer.write(typeDescriptorSourceGenerator.getSource(typeDescriptorClass));
+        } catch (Exception ex) {
+            logger.warn("Error generating type descriptor for '%s'", typeDescriptorClass, ex);
+        }
+    }
+
     private List<AnnotationValue> getAnnotationValues(final Element element, final String attributeName) {
         final TypeElement typeElement = elementUtils.getTypeElement(InstancioMetamodel.class.getCanonicalName());
         final List<AnnotationValue> annotationValues = new ArrayList<>();
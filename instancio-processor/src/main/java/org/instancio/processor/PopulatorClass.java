@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.instancio.internal.populator.Populators;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.QualifiedNameable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+class PopulatorClass {
+
+    private final String name;
+    private final String binarySimpleName;
+    private final String packageName;
+    private final boolean accessible;
+    private final boolean instantiable;
+    private final Map<String, String> writableFields;
+
+    PopulatorClass(final QualifiedNameable classElement) {
+        this.name = classElement.getQualifiedName().toString();
+        this.binarySimpleName = TypeNameResolver.getBinarySimpleName(classElement);
+        this.packageName = TypeNameResolver.getPackageName(classElement);
+        this.accessible = TypeNameResolver.isVisibleInPackage(classElement);
+        this.instantiable = accessible && hasAccessibleNoArgConstructor(classElement);
+        this.writableFields = getWritableFields(classElement, new TypeNameResolver(packageName));
+    }
+
+    private static boolean hasAccessibleNoArgConstructor(final Element classElement) {
+        final Set<Modifier> modifiers = classElement.getModifiers();
+        if (classElement.getKind() != ElementKind.CLASS || modifiers.contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        // inner (non-static nested) classes require an enclosing instance
+        if (classElement.getEnclosingElement().getKind() != ElementKind.PACKAGE
+                && !modifiers.contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (Element e : classElement.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.CONSTRUCTOR
+                    && ((ExecutableElement) e).getParameters().isEmpty()
+                    && !e.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> getWritableFields(final Element classElement,
+                                                         final TypeNameResolver typeNameResolver) {
+        final Map<String, String> fields = new LinkedHashMap<>();
+        for (Element e : classElement.getEnclosedElements()) {
+            final Set<Modifier> modifiers = e.getModifiers();
+            if (e.getKind() != ElementKind.FIELD
+                    || modifiers.contains(Modifier.STATIC)
+                    || modifiers.contains(Modifier.FINAL)
+                    || modifiers.contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            final String typeName = typeNameResolver.getErasedTypeName(e.asType());
+            if (typeName != null) {
+                fields.put(e.getSimpleName().toString(), typeName);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns a fully qualified class name, as returned by {@link Class#getCanonicalName()}.
+     *
+     * @return fully qualified class name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Simple name of the populator class.
+     *
+     * @return simple name of the populator class
+     */
+    String getPopulatorSimpleName() {
+        return binarySimpleName + Populators.CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Returns a fully qualified name of the populator class.
+     *
+     * @return fully qualified populator class name
+     */
+    String getPopulatorClassName() {
+        return packageName == null
+                ? getPopulatorSimpleName()
+                : packageName + "." + getPopulatorSimpleName();
+    }
+
+    /**
+     * Returns package name.
+     *
+     * @return package name, or {@code null} if none
+     */
+    String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Returns {@code true} if the class is visible from within
+     * its package, that is, neither the class nor any of its
+     * enclosing classes are {@code private}.
+     *
+     * @return whether a populator can be generated for the class
+     */
+    boolean isAccessible() {
+        return accessible;
+    }
+
+    /**
+     * Returns {@code true} if the class can be instantiated
+     * using a non-private no-argument constructor.
+     *
+     * @return whether the class can be instantiated by the populator
+     */
+    boolean isInstantiable() {
+        return instantiable;
+    }
+
+    /**
+     * Returns non-static, non-final, non-private fields
+     * mapped to their erased type names. Fields whose type
+     * cannot be referenced from the populator are excluded.
+     *
+     * @return writable field names and types
+     */
+    Map<String, String> getWritableFields() {
+        return writableFields;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+class PopulatorSourceGenerator {
+    private static final String PACKAGE_TEMPLATE = "package %s;";
+    private static final String IMPORTS = String.format(""
+            + "import org.instancio.spi.FieldWriter;%n"
+            + "import org.instancio.spi.Populator;"
+    );
+    private static final String CLASS_BODY_TEMPLATE = ""  // class name, newInstance() body, switch cases
+            + "@SuppressWarnings({\"rawtypes\", \"unchecked\"})%n"
+            + "public final class %s implements Populator {%n"
+            + "%n"
+            + "\t@Override%n"
+            + "\tpublic Object newInstance() {%n"
+            + "\t\treturn %s;%n"
+            + "\t}%n"
+            + "%n"
+            + "\t@Override%n"
+            + "\tpublic FieldWriter getFieldWriter(final String $fieldName) {%n"
+            + "\t\tswitch ($fieldName) {%n"
+            + "%s"
+            + "\t\t\tdefault: return null;%n"
+            + "\t\t}%n"
+            + "\t}%n"
+            + "}";
+    private static final String CASE_TEMPLATE = "\t\t\tcase \"%s\": return ($target, $value) -> ((%s) $target).%s = (%s) $value;%n";
+    private static final String CLASS_TEMPLATE = "%s%n%n%s%n%n%s"; // package, imports, class body
+
+    String getSource(final PopulatorClass populatorClass) {
+        return String.format(CLASS_TEMPLATE,
+                packageDeclaration(populatorClass.getPackageName()),
+                IMPORTS,
+                classBody(populatorClass));
+    }
+
+    private String classBody(final PopulatorClass populatorClass) {
+        final String newInstance = populatorClass.isInstantiable()
+                ? "new " + populatorClass.getName() + "()"
+                : "null";
+
+        return String.format(CLASS_BODY_TEMPLATE,
+                populatorClass.getPopulatorSimpleName(), newInstance, getCases(populatorClass));
+    }
+
+    private String getCases(final PopulatorClass populatorClass) {
+        final StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> field : populatorClass.getWritableFields().entrySet()) {
+            sb.append(String.format(CASE_TEMPLATE,
+                    field.getKey(), populatorClass.getName(), field.getKey(), field.getValue()));
+        }
+        return sb.toString();
+    }
+
+    private String packageDeclaration(@Nullable final String packageName) {
+        return packageName == null ? "" : String.format(PACKAGE_TEMPLATE, packageName);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.instancio.internal.populator.TypeDescriptors;
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.element.TypeElement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class TypeDescriptorClass {
+
+    private final String name;
+    private final String binarySimpleName;
+    private final String packageName;
+    private final boolean accessible;
+    private final String genericSuperclass;
+    private final Map<String, String> genericFieldTypes;
+
+    TypeDescriptorClass(final QualifiedNameable classElement) {
+        this.name = classElement.getQualifiedName().toString();
+        this.binarySimpleName = TypeNameResolver.getBinarySimpleName(classElement);
+        this.packageName = TypeNameResolver.getPackageName(classElement);
+        this.accessible = TypeNameResolver.isVisibleInPackage(classElement);
+
+        final TypeExpressionResolver resolver = new TypeExpressionResolver(new TypeNameResolver(packageName));
+        this.genericSuperclass = getGenericSuperclass(classElement, resolver);
+        this.genericFieldTypes = getGenericFieldTypes(classElement, resolver);
+    }
+
+    @Nullable
+    private static String getGenericSuperclass(final Element classElement,
+                                               final TypeExpressionResolver resolver) {
+        if (classElement instanceof TypeElement) {
+            return resolver.getTypeExpression(((TypeElement) classElement).getSuperclass());
+        }
+        return null;
+    }
+
+    private static Map<String, String> getGenericFieldTypes(final Element classElement,
+                                                            final TypeExpressionResolver resolver) {
+        final Map<String, String> fields = new LinkedHashMap<>();
+        for (Element e : classElement.getEnclosedElements()) {
+            if (e.getKind() != ElementKind.FIELD || e.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            final String typeExpression = resolver.getTypeExpression(e.asType());
+            if (typeExpression != null) {
+                fields.put(e.getSimpleName().toString(), typeExpression);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns a fully qualified class name, as returned by {@link Class#getCanonicalName()}.
+     *
+     * @return fully qualified class name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Simple name of the type descriptor class.
+     *
+     * @return simple name of the type descriptor class
+     */
+    String getTypeDescriptorSimpleName() {
+        return binarySimpleName + TypeDescriptors.CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Returns a fully qualified name of the type descriptor class.
+     *
+     * @return fully qualified type descriptor class name
+     */
+    String getTypeDescriptorClassName() {
+        return packageName == null
+                ? getTypeDescriptorSimpleName()
+                : packageName + "." + getTypeDescriptorSimpleName();
+    }
+
+    /**
+     * Returns package name.
+     *
+     * @return package name, or {@code null} if none
+     */
+    String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Returns {@code true} if the class is visible from within
+     * its package, that is, neither the class nor any of its
+     * enclosing classes are {@code private}.
+     *
+     * @return whether a type descriptor can be generated for the class
+     */
+    boolean isAccessible() {
+        return accessible;
+    }
+
+    /**
+     * Returns an expression that evaluates to the generic superclass.
+     *
+     * @return generic superclass expression, or {@code null} if the class
+     * has no superclass, or the superclass cannot be referenced
+     */
+    @Nullable
+    String getGenericSuperclass() {
+        return genericSuperclass;
+    }
+
+    /**
+     * Returns non-static fields mapped to expressions that evaluate
+     * to their generic types. Fields whose type cannot be referenced
+     * from the type descriptor are excluded.
+     *
+     * @return field names and generic type expressions
+     */
+    Map<String, String> getGenericFieldTypes() {
+        return genericFieldTypes;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
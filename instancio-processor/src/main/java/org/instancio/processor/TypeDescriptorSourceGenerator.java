@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+class TypeDescriptorSourceGenerator {
+    private static final String PACKAGE_TEMPLATE = "package %s;";
+    private static final String IMPORTS = String.format(""
+            + "import java.lang.reflect.Type;%n"
+            + "import org.instancio.spi.TypeDescriptor;"
+    );
+    private static final String CLASS_BODY_TEMPLATE = ""  // class name, fields, switch cases
+            + "public final class %s implements TypeDescriptor {%n"
+            + "%n"
+            + "\tprivate final Type $superclass = %s;%n"
+            + "%s"
+            + "%n"
+            + "\t@Override%n"
+            + "\tpublic Type getGenericSuperclass() {%n"
+            + "\t\treturn $superclass;%n"
+            + "\t}%n"
+            + "%n"
+            + "\t@Override%n"
+            + "\tpublic Type getGenericType(final String $fieldName) {%n"
+            + "\t\tswitch ($fieldName) {%n"
+            + "%s"
+            + "\t\t\tdefault: return null;%n"
+            + "\t\t}%n"
+            + "\t}%n"
+            + "}";
+    private static final String FIELD_TEMPLATE = "\tprivate final Type $field%d = %s;%n";
+    private static final String CASE_TEMPLATE = "\t\t\tcase \"%s\": return $field%d;%n";
+    private static final String CLASS_TEMPLATE = "%s%n%n%s%n%n%s"; // package, imports, class body
+
+    String getSource(final TypeDescriptorClass typeDescriptorClass) {
+        return String.format(CLASS_TEMPLATE,
+                packageDeclaration(typeDescriptorClass.getPackageName()),
+                IMPORTS,
+                classBody(typeDescriptorClass));
+    }
+
+    private String classBody(final TypeDescriptorClass typeDescriptorClass) {
+        final String superclass = typeDescriptorClass.getGenericSuperclass() == null
+                ? "null"
+                : typeDescriptorClass.getGenericSuperclass();
+
+        final StringBuilder fields = new StringBuilder();
+        final StringBuilder cases = new StringBuilder();
+        int index = 0;
+        for (Map.Entry<String, String> field : typeDescriptorClass.getGenericFieldTypes().entrySet()) {
+            fields.append(String.format(FIELD_TEMPLATE, index, field.getValue()));
+            cases.append(String.format(CASE_TEMPLATE, field.getKey(), index));
+            index++;
+        }
+
+        return String.format(CLASS_BODY_TEMPLATE,
+                typeDescriptorClass.getTypeDescriptorSimpleName(), superclass, fields, cases);
+    }
+
+    private String packageDeclaration(@Nullable final String packageName) {
+        return packageName == null ? "" : String.format(PACKAGE_TEMPLATE, packageName);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import java.util.List;
+
+/**
+ * Resolves source code expressions that evaluate to the
+ * {@link java.lang.reflect.Type} returned by the reflection
+ * API for a given type, for example, by
+ * {@link java.lang.reflect.Field#getGenericType()}.
+ */
+final class TypeExpressionResolver {
+    private static final String NULL = "null";
+    private static final String CLASS_LITERAL_SUFFIX = ".class";
+    private static final String TYPE_ARRAY_PREFIX = "new Type[]{";
+
+    private final TypeNameResolver typeNameResolver;
+
+    TypeExpressionResolver(final TypeNameResolver typeNameResolver) {
+        this.typeNameResolver = typeNameResolver;
+    }
+
+    /**
+     * Returns an expression that evaluates to the given type.
+     *
+     * @param type to resolve
+     * @return type expression, or {@code null} if the type, or any type
+     * it refers to, cannot be referenced from the package
+     */
+    @Nullable
+    String getTypeExpression(final TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return getArrayTypeExpression((ArrayType) type);
+            case DECLARED:
+                return getDeclaredTypeExpression((DeclaredType) type);
+            case TYPEVAR:
+                return getTypeVariableExpression((TypeVariable) type);
+            case WILDCARD:
+                return getWildcardTypeExpression((WildcardType) type);
+            default:
+                return type.getKind().isPrimitive() ? getClassLiteral(type) : null;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the reflection API represents
+     * the given type using a generic type, rather than a class.
+     */
+    private static boolean isGeneric(final TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return isGeneric(((ArrayType) type).getComponentType());
+            case DECLARED:
+                final DeclaredType declaredType = (DeclaredType) type;
+                return !declaredType.getTypeArguments().isEmpty() || isGeneric(declaredType.getEnclosingType());
+            case TYPEVAR:
+            case WILDCARD:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Nullable
+    private String getClassLiteral(final TypeMirror type) {
+        final String typeName = typeNameResolver.getErasedTypeName(type);
+        return typeName == null ? null : typeName + CLASS_LITERAL_SUFFIX;
+    }
+
+    @Nullable
+    private String getArrayTypeExpression(final ArrayType type) {
+        if (!isGeneric(type)) {
+            return getClassLiteral(type);
+        }
+        final String componentType = getTypeExpression(type.getComponentType());
+        return componentType == null ? null : "TypeDescriptor.genericArrayType(" + componentType + ")";
+    }
+
+    @Nullable
+    private String getDeclaredTypeExpression(final DeclaredType type) {
+        final String rawType = getClassLiteral(type);
+        if (rawType == null || !isGeneric(type)) {
+            return rawType;
+        }
+
+        // the owner of a member of a parameterized type is parameterized,
+        // otherwise it defaults to the declaring class, as with reflection
+        final TypeMirror enclosingType = type.getEnclosingType();
+        final String ownerType = isGeneric(enclosingType) ? getTypeExpression(enclosingType) : NULL;
+        final String typeArguments = getTypeArgumentsExpression(type.getTypeArguments());
+
+        if (ownerType == null || typeArguments == null) {
+            return null;
+        }
+        return "TypeDescriptor.parameterizedType(" + rawType + ", " + ownerType + typeArguments + ")";
+    }
+
+    @Nullable
+    private String getTypeVariableExpression(final TypeVariable type) {
+        final TypeParameterElement typeParameter = (TypeParameterElement) type.asElement();
+        final Element genericElement = typeParameter.getGenericElement();
+
+        // type variables declared by methods and constructors are not referenced by fields
+        if (!(genericElement instanceof TypeElement)) {
+            return null;
+        }
+        final String declaringClass = getClassLiteral(genericElement.asType());
+        final int index = ((TypeElement) genericElement).getTypeParameters().indexOf(typeParameter);
+
+        return declaringClass == null || index == -1
+                ? null
+                : declaringClass + ".getTypeParameters()[" + index + "]";
+    }
+
+    @Nullable
+    private String getWildcardTypeExpression(final WildcardType type) {
+        final String upperBounds = getBoundsExpression(type.getExtendsBound());
+        final String lowerBounds = getBoundsExpression(type.getSuperBound());
+
+        return upperBounds == null || lowerBounds == null
+                ? null
+                : "TypeDescriptor.wildcardType(" + upperBounds + ", " + lowerBounds + ")";
+    }
+
+    @Nullable
+    private String getBoundsExpression(@Nullable final TypeMirror bound) {
+        if (bound == null) {
+            return TYPE_ARRAY_PREFIX + "}";
+        }
+        final String boundExpression = getTypeExpression(bound);
+        return boundExpression == null ? null : TYPE_ARRAY_PREFIX + boundExpression + "}";
+    }
+
+    /**
+     * Returns type arguments, each preceded by a comma, or an empty string if none.
+     */
+    @Nullable
+    private String getTypeArgumentsExpression(final List<? extends TypeMirror> typeArguments) {
+        final StringBuilder sb = new StringBuilder();
+        for (TypeMirror typeArgument : typeArguments) {
+            final String expression = getTypeExpression(typeArgument);
+            if (expression == null) {
+                return null;
+            }
+            sb.append(", ").append(expression);
+        }
+        return sb.toString();
+    }
+}
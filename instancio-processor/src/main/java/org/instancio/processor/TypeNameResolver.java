@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Resolves type names that can be used in source code
+ * generated within a given package.
+ */
+final class TypeNameResolver {
+
+    private final String packageName;
+
+    TypeNameResolver(@Nullable final String packageName) {
+        this.packageName = packageName;
+    }
+
+    /**
+     * Returns the name of the package the element is declared in.
+     *
+     * @return package name, or {@code null} for the default package
+     */
+    @Nullable
+    static String getPackageName(final Element element) {
+        Element packageElement = element.getEnclosingElement();
+        while (packageElement.getKind() != ElementKind.PACKAGE) {
+            packageElement = packageElement.getEnclosingElement();
+        }
+        final String pkg = ((QualifiedNameable) packageElement).getQualifiedName().toString();
+        return "".equals(pkg) ? null : pkg;
+    }
+
+    /**
+     * Returns the binary name of the class without the package name,
+     * for example {@code Outer$Nested}.
+     *
+     * @return binary simple name
+     */
+    static String getBinarySimpleName(final Element classElement) {
+        final StringBuilder sb = new StringBuilder(classElement.getSimpleName().toString());
+        Element enclosing = classElement.getEnclosingElement();
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            sb.insert(0, enclosing.getSimpleName().toString() + '$');
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns {@code true} if the class is visible from within
+     * its package, that is, neither the class nor any of its
+     * enclosing classes are {@code private}.
+     *
+     * @return whether classes can be generated for the class
+     */
+    static boolean isVisibleInPackage(final Element classElement) {
+        Element element = classElement;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the type can be referenced from the package,
+     * that is, the type and all of its enclosing types are either {@code public},
+     * or not {@code private} and declared in the same package.
+     */
+    private boolean isAccessible(final Element typeElement) {
+        final boolean samePackage = Objects.equals(getPackageName(typeElement), packageName);
+        Element element = typeElement;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            final Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the name of the erased type, without type annotations,
+     * as it would appear in a cast expression.
+     *
+     * @return type name, or {@code null} if the type cannot be
+     * referenced from the package
+     */
+    @Nullable
+    String getErasedTypeName(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        switch (type.getKind()) {
+            case ARRAY:
+                final String componentName = getErasedTypeName(((ArrayType) type).getComponentType());
+                return componentName == null ? null : componentName + "[]";
+            case DECLARED:
+                final TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+                return isAccessible(typeElement)
+                        ? typeElement.getQualifiedName().toString()
+                        : null;
+            case TYPEVAR:
+                return getErasedTypeName(((TypeVariable) type).getUpperBound());
+            case INTERSECTION:
+                return getErasedTypeName(((IntersectionType) type).getBounds().get(0));
+            default:
+                return null;
+        }
+    }
+}
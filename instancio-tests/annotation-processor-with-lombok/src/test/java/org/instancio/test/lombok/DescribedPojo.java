@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.test.lombok;
+
+import java.util.List;
+import java.util.Map;
+
+public class DescribedPojo<T> extends DescribedBase<String, T> {
+    int primitiveInt;
+    String string;
+    String[] stringArray;
+    List<String> list;
+    Map<String, List<Integer>> map;
+    T value;
+    T[] valueArray;
+    List<T>[] listArray;
+    List<? extends Number> upperBounded;
+    List<? super Integer> lowerBounded;
+    List<?> unbounded;
+    Holder<T> holder;
+    Inner inner;
+    private Hidden hidden;
+    private List<Hidden> hiddenList;
+
+    static class Holder<N> {
+        N holderValue;
+    }
+
+    class Inner {
+        T innerValue;
+    }
+
+    /**
+     * The type descriptor cannot reference this type,
+     * therefore types of fields that refer to it are not described.
+     */
+    private static class Hidden {
+        String value;
+    }
+}
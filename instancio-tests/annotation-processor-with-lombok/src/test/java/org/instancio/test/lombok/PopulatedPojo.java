@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.test.lombok;
+
+import java.util.List;
+
+public class PopulatedPojo {
+    String string;
+    int primitiveInt;
+    List<String> list;
+    Nested nested;
+    Nested[] nestedArray;
+    Hidden hidden;
+    Hidden[] hiddenArray;
+
+    static class Nested {
+        String value;
+    }
+
+    /**
+     * A field of this type cannot be assigned by the populator,
+     * since the type cannot be referenced from outside this class.
+     */
+    private static class Hidden {
+        String value;
+    }
+
+    boolean hasHidden() {
+        return hidden != null && hidden.value != null && hiddenArray != null;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.test.lombok;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioMetamodel;
+import org.instancio.spi.Populator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Populators are generated using {@code -Ainstancio.populators=true}.
+ * This test module would fail to compile if the generated source was invalid.
+ */
+@InstancioMetamodel(classes = {PopulatedPojo.class, PopulatedPojo.Nested.class})
+class ProcessorPopulatorTest {
+
+    @Test
+    void shouldGeneratePopulator() throws Exception {
+        final Class<?> populatorClass = Class.forName(PopulatedPojo.class.getName() + "_InstancioPopulator");
+        final Populator populator = (Populator) populatorClass.getDeclaredConstructor().newInstance();
+
+        assertThat(populator.newInstance()).isExactlyInstanceOf(PopulatedPojo.class);
+        assertThat(populator.getFieldWriter("string")).isNotNull();
+        assertThat(populator.getFieldWriter("primitiveInt")).isNotNull();
+        assertThat(populator.getFieldWriter("list")).isNotNull();
+        assertThat(populator.getFieldWriter("nested")).isNotNull();
+        assertThat(populator.getFieldWriter("nestedArray")).isNotNull();
+    }
+
+    @Test
+    void shouldNotGenerateWritersForFieldsOfInaccessibleTypes() throws Exception {
+        final Class<?> populatorClass = Class.forName(PopulatedPojo.class.getName() + "_InstancioPopulator");
+        final Populator populator = (Populator) populatorClass.getDeclaredConstructor().newInstance();
+
+        assertThat(populator.getFieldWriter("hidden")).isNull();
+        assertThat(populator.getFieldWriter("hiddenArray")).isNull();
+    }
+
+    @Test
+    void shouldGeneratePopulatorForNestedClass() throws Exception {
+        final Class<?> populatorClass = Class.forName(PopulatedPojo.Nested.class.getName() + "_InstancioPopulator");
+        final Populator populator = (Populator) populatorClass.getDeclaredConstructor().newInstance();
+
+        assertThat(populator.newInstance()).isExactlyInstanceOf(PopulatedPojo.Nested.class);
+        assertThat(populator.getFieldWriter("value")).isNotNull();
+    }
+
+    @Test
+    void shouldPopulateFields() {
+        final PopulatedPojo result = Instancio.create(PopulatedPojo.class);
+
+        assertThat(result.string).isNotBlank();
+        assertThat(result.list).isNotEmpty();
+        assertThat(result.nested.value).isNotBlank();
+        assertThat(result.nestedArray).isNotEmpty().allSatisfy(n -> assertThat(n.value).isNotBlank());
+        // fields of inaccessible types are assigned using reflection
+        assertThat(result.hasHidden()).isTrue();
+    }
+}
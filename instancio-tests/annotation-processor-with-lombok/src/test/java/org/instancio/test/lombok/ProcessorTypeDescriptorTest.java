@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.test.lombok;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioMetamodel;
+import org.instancio.TypeToken;
+import org.instancio.spi.TypeDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Type descriptors are generated using {@code -Ainstancio.typeDescriptors=true}.
+ * This test module would fail to compile if the generated source was invalid.
+ */
+@InstancioMetamodel(classes = {DescribedPojo.class, DescribedBase.class, DescribedPojo.Holder.class})
+class ProcessorTypeDescriptorTest {
+
+    private static TypeDescriptor getTypeDescriptor(final Class<?> klass) throws Exception {
+        final Class<?> descriptorClass = Class.forName(klass.getName() + "_InstancioTypeDescriptor");
+        return (TypeDescriptor) descriptorClass.getDeclaredConstructor().newInstance();
+    }
+
+    @Test
+    void describedTypesShouldBeEqualToReflectedTypes() throws Exception {
+        final TypeDescriptor descriptor = getTypeDescriptor(DescribedPojo.class);
+
+        for (Field field : DescribedPojo.class.getDeclaredFields()) {
+            if (field.isSynthetic() || field.getName().startsWith("hidden")) {
+                continue;
+            }
+            final Type described = descriptor.getGenericType(field.getName());
+            final Type reflected = field.getGenericType();
+
+            assertThat(described).as(field.getName()).isEqualTo(reflected);
+            assertThat(reflected).as(field.getName()).isEqualTo(described);
+            assertThat(described.hashCode()).as(field.getName()).isEqualTo(reflected.hashCode());
+        }
+    }
+
+    @Test
+    void describedSuperclassShouldBeEqualToReflectedSuperclass() throws Exception {
+        final Type described = getTypeDescriptor(DescribedPojo.class).getGenericSuperclass();
+        final Type reflected = DescribedPojo.class.getGenericSuperclass();
+
+        assertThat(described).isEqualTo(reflected);
+        assertThat(reflected).isEqualTo(described);
+        assertThat(described.hashCode()).isEqualTo(reflected.hashCode());
+        assertThat(getTypeDescriptor(DescribedBase.class).getGenericSuperclass()).isEqualTo(Object.class);
+    }
+
+    @Test
+    void shouldNotDescribeFieldsOfInaccessibleTypes() throws Exception {
+        final TypeDescriptor descriptor = getTypeDescriptor(DescribedPojo.class);
+
+        assertThat(descriptor.getGenericType("hidden")).isNull();
+        assertThat(descriptor.getGenericType("hiddenList")).isNull();
+        assertThat(descriptor.getGenericType("nonExistent")).isNull();
+    }
+
+    @Test
+    void shouldCreateObjectUsingTypeDescriptors() {
+        final DescribedPojo<Long> result = Instancio.create(new TypeToken<DescribedPojo<Long>>() {});
+
+        assertThat(result.baseA).isNotBlank();
+        assertThat(result.baseB).isNotNull();
+        assertThat(result.value).isNotNull();
+        assertThat(result.valueArray).isNotEmpty().doesNotContainNull();
+        assertThat(result.listArray).isNotEmpty().allSatisfy(list -> assertThat(list).isNotEmpty().doesNotContainNull());
+        assertThat(result.map).isNotEmpty();
+        assertThat(result.upperBounded).isNotEmpty();
+        assertThat(result.lowerBounded).isNotEmpty();
+        assertThat(result.holder.holderValue).isNotNull();
+    }
+}
@@ -18,12 +18,16 @@ package org.instancio.test.beanvalidation;
 import org.instancio.Instancio;
 import org.instancio.junit.InstancioExtension;
 import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
 import org.instancio.test.pojo.beanvalidation.ArraySizeBV;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.test.support.util.Constants.SAMPLE_SIZE_DD;
 
@@ -66,4 +70,16 @@ class ArraySizeBVTest {
         final ArraySizeBV.WithMinMaxEqual result = Instancio.create(ArraySizeBV.WithMinMaxEqual.class);
         assertThat(result.getValue()).hasSize(5);
     }
+
+    @Test
+    void constraintsShouldApplyToEveryElementOfList() {
+        final List<ArraySizeBV.WithMinMaxEqual> results = Instancio.ofList(ArraySizeBV.WithMinMaxEqual.class)
+                .size(SAMPLE_SIZE_DD)
+                .withSettings(Settings.create()
+                        .set(Keys.COLLECTION_NULLABLE, false)
+                        .set(Keys.ARRAY_NULLABLE, false))
+                .create();
+
+        assertThat(results).allSatisfy(result -> assertThat(result.getValue()).hasSize(5));
+    }
 }
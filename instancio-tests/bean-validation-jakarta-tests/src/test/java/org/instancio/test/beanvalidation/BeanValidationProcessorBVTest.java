@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.beanvalidation;
+
+import org.instancio.Random;
+import org.instancio.generator.Generator;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.beanvalidation.BeanValidationProcessor;
+import org.instancio.internal.generator.lang.IntegerGenerator;
+import org.instancio.internal.generator.lang.StringGenerator;
+import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
+import org.instancio.test.pojo.beanvalidation.NotEmptyBv;
+import org.instancio.test.pojo.beanvalidation.NumbersMinMaxPositiveBV;
+import org.instancio.test.pojo.beanvalidation.StringDigitsBV;
+import org.instancio.test.pojo.beanvalidation.StringSizeBV;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.test.support.util.Constants.SAMPLE_SIZE_DD;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Generators are reused for values generated for the same node,
+ * therefore applying constraints to the same spec more than once
+ * should produce the same result as applying them once.
+ */
+@FeatureTag(Feature.BEAN_VALIDATION)
+class BeanValidationProcessorBVTest {
+
+    private static final long SEED = 123;
+
+    private static final Settings SETTINGS = Settings.defaults()
+            .set(Keys.STRING_NULLABLE, true)
+            .set(Keys.INTEGER_NULLABLE, true);
+
+    private final BeanValidationProcessor processor = new BeanValidationProcessor();
+
+    private static Stream<Arguments> fields() {
+        return Stream.of(
+                arguments(StringSizeBV.WithMinMaxSize.class, "value", (Function<GeneratorContext, Generator<?>>) StringGenerator::new),
+                arguments(NotEmptyBv.class, "string", (Function<GeneratorContext, Generator<?>>) StringGenerator::new),
+                arguments(StringDigitsBV.OnString.class, "s4", (Function<GeneratorContext, Generator<?>>) StringGenerator::new),
+                arguments(NumbersMinMaxPositiveBV.class, "integerWrapper", (Function<GeneratorContext, Generator<?>>) IntegerGenerator::new));
+    }
+
+    @MethodSource("fields")
+    @ParameterizedTest
+    void reapplyingConstraintsShouldProduceSameValues(
+            final Class<?> klass,
+            final String fieldName,
+            final Function<GeneratorContext, Generator<?>> generatorFactory) {
+
+        final Field field = ReflectionUtils.getField(klass, fieldName);
+
+        final Generator<?> appliedOnce = createGenerator(generatorFactory, field, 1);
+        final Generator<?> appliedThrice = createGenerator(generatorFactory, field, 3);
+
+        assertThat(generate(appliedThrice))
+                .doesNotContainNull()
+                .isEqualTo(generate(appliedOnce));
+    }
+
+    private Generator<?> createGenerator(
+            final Function<GeneratorContext, Generator<?>> generatorFactory,
+            final Field field,
+            final int timesApplied) {
+
+        final Random random = new DefaultRandom(SEED);
+        final Generator<?> generator = generatorFactory.apply(new GeneratorContext(SETTINGS, random));
+
+        for (int i = 0; i < timesApplied; i++) {
+            processor.process(generator, field.getType(), field);
+        }
+        return generator;
+    }
+
+    private static List<Object> generate(final Generator<?> generator) {
+        final Random random = new DefaultRandom(SEED);
+        final List<Object> results = new ArrayList<>();
+        for (int i = 0; i < SAMPLE_SIZE_DD; i++) {
+            results.add(generator.generate(random));
+        }
+        return results;
+    }
+}
@@ -24,8 +24,11 @@ import org.instancio.test.pojo.beanvalidation.CollectionSizeBV;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.test.support.util.Constants.SAMPLE_SIZE_DD;
 
@@ -73,4 +76,14 @@ class CollectionSizeBVTest {
         final CollectionSizeBV.WithMinMaxEqual result = Instancio.create(CollectionSizeBV.WithMinMaxEqual.class);
         assertThat(result.getValue()).hasSize(5);
     }
+
+    @Test
+    void constraintsShouldApplyToEveryElementOfList() {
+        final List<CollectionSizeBV.WithMinMaxSize> results = Instancio.ofList(CollectionSizeBV.WithMinMaxSize.class)
+                .size(SAMPLE_SIZE_DD)
+                .withSettings(Settings.create().set(Keys.COLLECTION_NULLABLE, false))
+                .create();
+
+        assertThat(results).allSatisfy(result -> assertThat(result.getValue()).hasSizeBetween(19, 20));
+    }
 }
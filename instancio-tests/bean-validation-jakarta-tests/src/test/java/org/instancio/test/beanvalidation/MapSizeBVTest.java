@@ -24,8 +24,11 @@ import org.instancio.test.pojo.beanvalidation.MapSizeBV;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.test.support.util.Constants.SAMPLE_SIZE_DD;
 
@@ -77,4 +80,16 @@ class MapSizeBVTest {
         final MapSizeBV.WithMinMaxEqual result = Instancio.create(MapSizeBV.WithMinMaxEqual.class);
         assertThat(result.getValue()).hasSize(5);
     }
+
+    @Test
+    void constraintsShouldApplyToEveryElementOfList() {
+        final List<MapSizeBV.WithMinMaxSize> results = Instancio.ofList(MapSizeBV.WithMinMaxSize.class)
+                .size(SAMPLE_SIZE_DD)
+                .withSettings(Settings.create()
+                        .set(Keys.COLLECTION_NULLABLE, false)
+                        .set(Keys.MAP_NULLABLE, false))
+                .create();
+
+        assertThat(results).allSatisfy(result -> assertThat(result.getValue()).hasSizeBetween(19, 20));
+    }
 }
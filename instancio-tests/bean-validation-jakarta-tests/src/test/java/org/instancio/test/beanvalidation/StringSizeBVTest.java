@@ -27,6 +27,8 @@ import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.test.support.util.Constants.SAMPLE_SIZE_D;
 
@@ -77,6 +79,16 @@ class StringSizeBVTest {
         assertThat(result.getValue()).hasSize(5);
     }
 
+    @Test
+    void constraintsShouldApplyToEveryElementOfList() {
+        final List<StringSizeBV.WithMinMaxSize> results = Instancio.ofList(StringSizeBV.WithMinMaxSize.class)
+                .size(SAMPLE_SIZE_D)
+                .withSettings(Settings.create().set(Keys.COLLECTION_NULLABLE, false))
+                .create();
+
+        assertThat(results).allSatisfy(result -> assertThat(result.getValue()).hasSizeBetween(19, 20));
+    }
+
     @Test
     void withStringFieldPrefix() {
         final StringSizeBV.WithMinMaxEqual result = Instancio.of(StringSizeBV.WithMinMaxEqual.class)
@@ -17,12 +17,17 @@ package org.instancio.test.beanvalidation;
 
 import org.instancio.Instancio;
 import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
 import org.instancio.test.pojo.beanvalidation.StringDigitsBV;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @FeatureTag(Feature.BEAN_VALIDATION)
@@ -40,6 +45,41 @@ class StringDigitsBVTest {
         assertThat(result.getS4()).matches("\\d{15}\\.\\d{20}");
     }
 
+    /**
+     * Constraints are resolved once per field, but the fraction
+     * should still be generated for each value.
+     */
+    @Test
+    void fractionShouldBeGeneratedForEachValue() {
+        final Set<String> results = Instancio.stream(StringDigitsBV.OnString.class)
+                .limit(50)
+                .map(StringDigitsBV.OnString::getS0)
+                .collect(Collectors.toSet());
+
+        assertThat(results)
+                .hasSizeGreaterThan(1)
+                .allSatisfy(s -> assertThat(s).matches("\\.\\d{2}"));
+    }
+
+    /**
+     * Generators are reused for values created from the same model,
+     * but the fraction should still be generated for each value.
+     */
+    @Test
+    void fractionShouldBeGeneratedForEachElementOfList() {
+        final Set<String> results = Instancio.ofList(StringDigitsBV.OnString.class)
+                .size(50)
+                .withSettings(Settings.create().set(Keys.COLLECTION_NULLABLE, false))
+                .create()
+                .stream()
+                .map(StringDigitsBV.OnString::getS0)
+                .collect(Collectors.toSet());
+
+        assertThat(results)
+                .hasSizeGreaterThan(1)
+                .allSatisfy(s -> assertThat(s).matches("\\.\\d{2}"));
+    }
+
     @Test
     void onCharSequence() {
         final StringDigitsBV.OnCharSequence result = Instancio.create(StringDigitsBV.OnCharSequence.class);
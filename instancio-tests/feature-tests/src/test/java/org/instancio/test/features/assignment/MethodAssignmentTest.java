@@ -18,6 +18,7 @@ package org.instancio.test.features.assignment;
 import org.instancio.Instancio;
 import org.instancio.Model;
 import org.instancio.assignment.AssignmentType;
+import org.instancio.assignment.OnSetMethodNotFound;
 import org.instancio.assignment.SetterStyle;
 import org.instancio.internal.util.SystemProperties;
 import org.instancio.junit.InstancioExtension;
@@ -77,6 +78,23 @@ class MethodAssignmentTest {
         assertResult(result);
     }
 
+    @Test
+    void setterResolvedForOneStyleShouldNotBeUsedForAnotherStyle() {
+        final SetterStylePojo viaSetters = Instancio.of(pojoModel(SetterStyleSet.class))
+                .withSettings(Settings.create().set(Keys.SETTER_STYLE, SetterStyle.SET))
+                .create();
+
+        final SetterStylePojo viaFields = Instancio.of(pojoModel(SetterStyleSet.class))
+                .withSettings(Settings.create()
+                        .set(Keys.SETTER_STYLE, SetterStyle.WITH)
+                        .set(Keys.ON_SET_METHOD_NOT_FOUND, OnSetMethodNotFound.ASSIGN_FIELD))
+                .create();
+
+        assertResult(viaSetters);
+        assertThat(viaFields.getString()).isNotNull();
+        assertThat(viaFields.isViaSetter_string()).isFalse();
+    }
+
     private static void assertResult(final SetterStylePojo result) {
         assertThatObject(result).hasNoNullFieldsOrProperties();
 
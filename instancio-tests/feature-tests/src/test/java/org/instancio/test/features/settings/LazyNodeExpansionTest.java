@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.settings;
+
+import org.instancio.Instancio;
+import org.instancio.Mode;
+import org.instancio.exception.UnusedSelectorException;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.cyclic.ClassesABCWithCrossReferences;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Phone;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.SETTINGS)
+class LazyNodeExpansionTest {
+
+    private static final long SEED = 8765;
+
+    private static Settings lazy(final boolean enabled) {
+        return Settings.create().set(Keys.LAZY_NODE_EXPANSION_ENABLED, enabled);
+    }
+
+    @Test
+    void shouldGenerateSameResultAsEagerExpansion() {
+        final Person eager = Instancio.of(Person.class)
+                .withSettings(lazy(false))
+                .withSeed(SEED)
+                .create();
+
+        final Person lazy = Instancio.of(Person.class)
+                .withSettings(lazy(true))
+                .withSeed(SEED)
+                .create();
+
+        assertThat(lazy).hasNoNullFieldsOrProperties();
+        assertThat(lazy).usingRecursiveComparison().isEqualTo(eager);
+    }
+
+    @Test
+    void cyclicClassesWithMaxDepth() {
+        final ClassesABCWithCrossReferences eager = Instancio.of(ClassesABCWithCrossReferences.class)
+                .withSettings(lazy(false))
+                .withMaxDepth(4)
+                .withSeed(SEED)
+                .create();
+
+        final ClassesABCWithCrossReferences lazy = Instancio.of(ClassesABCWithCrossReferences.class)
+                .withSettings(lazy(true))
+                .withMaxDepth(4)
+                .withSeed(SEED)
+                .create();
+
+        assertThat(lazy).usingRecursiveComparison().isEqualTo(eager);
+    }
+
+    @Test
+    void shouldApplySelectorsToLazilyCreatedNodes() {
+        final Address address = new Address();
+
+        final Person result = Instancio.of(Person.class)
+                .withSettings(lazy(true))
+                .supply(field(Person::getAddress), () -> address)
+                .set(all(String.class), "foo")
+                .ignore(field(Person::getAge))
+                .create();
+
+        assertThat(result.getAddress()).isSameAs(address);
+        assertThat(result.getAddress().getCity()).isNull();
+        assertThat(result.getName()).isEqualTo("foo");
+        assertThat(result.getAge()).isZero();
+    }
+
+    @Test
+    void parallelStream() {
+        final List<Person> results = Instancio.of(Person.class)
+                .withSettings(lazy(true))
+                .parallelStream()
+                .limit(100)
+                .collect(Collectors.toList());
+
+        assertThat(results).hasSize(100).allSatisfy(person ->
+                assertThat(person.getAddress().getPhoneNumbers()).isNotEmpty());
+    }
+
+    @Test
+    void strictModeShouldNotReportSelectorsTargetingUnexpandedNodes() {
+        final Address address = new Address();
+
+        final Person result = Instancio.of(Person.class)
+                .withSettings(lazy(true).set(Keys.MODE, Mode.STRICT))
+                .supply(field(Person::getAddress), () -> address)
+                .ignore(field(Phone::getNumber))
+                .subtype(field(Address::getPhoneNumbers), LinkedList.class)
+                .create();
+
+        assertThat(result.getAddress()).isSameAs(address);
+    }
+
+    @Test
+    void strictModeShouldReportUnusedSelectors() {
+        final Settings settings = lazy(true).set(Keys.MODE, Mode.STRICT);
+
+        assertThatThrownBy(() -> Instancio.of(Person.class)
+                .withSettings(settings)
+                .ignore(all(StringBuilder.class))
+                .create())
+                .isInstanceOf(UnusedSelectorException.class);
+    }
+}
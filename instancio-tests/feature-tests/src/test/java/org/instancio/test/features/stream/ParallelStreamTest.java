@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.stream;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.support.Seeds;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Phone;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.STREAM)
+@ExtendWith(InstancioExtension.class)
+class ParallelStreamTest {
+
+    private static final int LIMIT = 500;
+    private static final long SEED = 123;
+
+    @Test
+    void shouldProduceDistinctPopulatedObjects() {
+        final List<Person> results = Instancio.of(Person.class)
+                .parallelStream()
+                .limit(LIMIT)
+                .collect(toList());
+
+        assertThat(results)
+                .hasSize(LIMIT)
+                .allSatisfy(person -> assertThat(person.getUuid()).isNotNull());
+
+        final Set<UUID> uuids = results.stream().map(Person::getUuid).collect(toSet());
+        assertThat(uuids).hasSize(LIMIT);
+    }
+
+    @Test
+    void shouldProduceSameResultsRegardlessOfParallelism() throws Exception {
+        final List<Person> sequential = Instancio.of(Person.class)
+                .withSeed(SEED)
+                .parallelStream()
+                .sequential()
+                .limit(LIMIT)
+                .collect(toList());
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<Person> parallel = pool.submit(() -> Instancio.of(Person.class)
+                    .withSeed(SEED)
+                    .parallelStream()
+                    .limit(LIMIT)
+                    .collect(toList())).get();
+
+            assertThat(parallel).isEqualTo(sequential);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void elementShouldBeGeneratedFromDerivedSeed() {
+        final List<Person> results = Instancio.of(Person.class)
+                .withSeed(SEED)
+                .parallelStream()
+                .limit(10)
+                .collect(toList());
+
+        for (int i = 0; i < results.size(); i++) {
+            final Person expected = Instancio.of(Person.class)
+                    .withSeed(Seeds.deriveSeed(SEED, i))
+                    .create();
+
+            assertThat(results.get(i)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldApplySelectors() {
+        final List<Phone> results = Instancio.of(Phone.class)
+                .set(field(Phone::getCountryCode), "+1")
+                .generate(field(Phone::getNumber), gen -> gen.string().digits())
+                .parallelStream()
+                .limit(LIMIT)
+                .collect(toList());
+
+        assertThat(results)
+                .hasSize(LIMIT)
+                .allSatisfy(phone -> {
+                    assertThat(phone.getCountryCode()).isEqualTo("+1");
+                    assertThat(phone.getNumber()).containsOnlyDigits();
+                });
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.stream;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.support.Seeds;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+
+@FeatureTag(Feature.STREAM)
+@ExtendWith(InstancioExtension.class)
+class StreamRangeTest {
+
+    private static final long SEED = 123;
+
+    private static InstancioApi<Person> api() {
+        return Instancio.of(Person.class).withSeed(SEED);
+    }
+
+    @Test
+    void shouldReturnElementsOfParallelStreamAtGivenIndices() {
+        final List<Person> expected = api().parallelStream()
+                .limit(30)
+                .collect(toList());
+
+        assertThat(api().stream(0, 30).collect(toList())).isEqualTo(expected);
+        assertThat(api().stream(10, 20).collect(toList())).isEqualTo(expected.subList(10, 20));
+    }
+
+    @Test
+    void concatenatedRangesShouldEqualTheWholeRange() {
+        final List<Person> whole = api().stream(0, 20).collect(toList());
+        final List<Person> first = api().stream(0, 7).collect(toList());
+        final List<Person> second = api().stream(7, 20).parallel().collect(toList());
+
+        assertThat(first).isEqualTo(whole.subList(0, 7));
+        assertThat(second).isEqualTo(whole.subList(7, 20));
+    }
+
+    @Test
+    void shouldGenerateElementAtLargeIndexWithoutGeneratingPrefix() {
+        final long index = Long.MAX_VALUE - 1;
+        final AtomicInteger rootObjectCount = new AtomicInteger();
+
+        final List<Person> results = api()
+                .onComplete(all(Person.class), person -> rootObjectCount.incrementAndGet())
+                .stream(index, index + 1)
+                .collect(toList());
+
+        final Person expected = Instancio.of(Person.class)
+                .withSeed(Seeds.deriveSeed(SEED, index))
+                .create();
+
+        assertThat(results).containsExactly(expected);
+        assertThat(rootObjectCount).hasValue(1);
+    }
+
+    @Test
+    void emptyRange() {
+        assertThat(api().stream(5, 5)).isEmpty();
+    }
+
+    @Test
+    void invalidRange() {
+        final InstancioApi<Person> api = api();
+
+        assertThatThrownBy(() -> api.stream(-1, 5))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessage("Stream range start must not be negative: -1");
+
+        assertThatThrownBy(() -> api.stream(5, 4))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessage("Stream range start must be less than or equal to end: [5, 4)");
+    }
+}
@@ -24,6 +24,12 @@ import org.instancio.test.support.tags.FeatureTag;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -92,4 +98,48 @@ class GlobalSeedTest {
                 .isNotEqualTo(s2.get());
     }
 
+    @Test
+    @DisplayName("(b) withSettings() seed equal to global seed on a separate thread")
+    void settingsSeedEqualToGlobalSeedOnSeparateThread() {
+        final Settings settings = Settings.create().set(Keys.SEED, TestConstants.GLOBAL_SEED);
+        final String expected = Instancio.of(String.class).withSeed(TestConstants.GLOBAL_SEED).create();
+
+        final CompletableFuture<List<Result<String>>> future = new CompletableFuture<>();
+        new Thread(() -> {
+            // advance the sequence of this thread's global random
+            Instancio.create(String.class);
+
+            future.complete(IntStream.range(0, 2)
+                    .mapToObj(j -> Instancio.of(String.class).withSettings(settings).asResult())
+                    .collect(Collectors.toList()));
+        }).start();
+
+        final List<Result<String>> results = future.join();
+
+        assertThat(results).extracting(Result::getSeed).containsOnly(TestConstants.GLOBAL_SEED);
+        assertThat(results).extracting(Result::get)
+                .as("Explicit seed should be used even if it is equal to the global seed")
+                .containsOnly(expected);
+    }
+
+    @Test
+    @DisplayName("(c) Global seed should produce the same sequence on each thread")
+    void seedFromPropertiesOnSeparateThreads() {
+        final List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            // use a new thread for each task so that each sequence starts from the global seed
+            final CompletableFuture<List<String>> future = new CompletableFuture<>();
+            new Thread(() -> future.complete(IntStream.range(0, 10)
+                    .mapToObj(j -> Instancio.create(String.class))
+                    .collect(Collectors.toList()))).start();
+            futures.add(future);
+        }
+
+        final List<String> expected = futures.get(0).join();
+        assertThat(expected).doesNotHaveDuplicates();
+
+        for (CompletableFuture<List<String>> future : futures) {
+            assertThat(future.join()).isEqualTo(expected);
+        }
+    }
 }
@@ -40,4 +40,26 @@ class InternalModelTest {
         assertThat(Instancio.of(new TypeToken<Pair<Long, String>>() {}).toModel())
                 .hasToString("Model<org.instancio.test.support.pojo.generics.basic.Pair<java.lang.Long, java.lang.String>>");
     }
+
+    @Test
+    void generationPlanShouldBeCreatedOnceAndReused() {
+        final InternalModel<Person> model = (InternalModel<Person>) Instancio.of(Person.class).toModel();
+        final GenerationPlan plan = model.getGenerationPlan();
+
+        assertThat(model.getGenerationPlan()).isSameAs(plan);
+        assertThat(plan.getNodePlan(model.getRootNode()))
+                .isSameAs(plan.getNodePlan(model.getRootNode()));
+    }
+
+    @Test
+    void enginesCreatedFromSameModelShouldShareGenerationPlan() {
+        final InternalModel<Person> model = (InternalModel<Person>) Instancio.of(Person.class).toModel();
+
+        final Person first = new InstancioEngine(model).createRootObject();
+        final Person second = new InstancioEngine(model).createRootObject();
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull().isNotSameAs(first);
+        assertThat(model.getGenerationPlan().getNodePlan(model.getRootNode()).getHandlers()).isNotEmpty();
+    }
 }
@@ -19,6 +19,7 @@ import org.instancio.assignment.OnSetFieldError;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.internal.assigners.FieldAssigner;
 import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.util.FieldAccessor;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.instancio.test.support.pojo.person.Person;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
@@ -38,6 +40,10 @@ import static org.mockito.Mockito.when;
 class FieldAssignerTest {
     private static final Exception EXPECTED_ERROR = new RuntimeException("expected error");
 
+    /**
+     * Returns a node without a field accessor,
+     * so the value is assigned via reflection.
+     */
     private static InternalNode getMockNode() {
         final Field mockField = mock(Field.class);
         doReturn(Person.class).when(mockField).getDeclaringClass();
@@ -47,6 +53,18 @@ class FieldAssignerTest {
         return when(mock(InternalNode.class).getField()).thenReturn(mockField).getMock();
     }
 
+    /**
+     * Returns a node whose field accessor fails to assign the value.
+     */
+    private static InternalNode getMockNodeWithAccessor() throws IllegalAccessException {
+        final FieldAccessor mockAccessor = mock(FieldAccessor.class);
+        doThrow(new IllegalAccessException("expected error")).when(mockAccessor).set(anyString(), anyString());
+
+        final InternalNode mockNode = getMockNode();
+        when(mockNode.getFieldAccessor()).thenReturn(mockAccessor);
+        return mockNode;
+    }
+
     private static FieldAssigner createAssigner(final OnSetFieldError onSetFieldError) {
         final Settings settings = Settings.create().set(Keys.ON_SET_FIELD_ERROR, onSetFieldError);
         return new FieldAssigner(settings);
@@ -85,4 +103,27 @@ class FieldAssignerTest {
                         "To ignore the error and leave the field uninitialised%n" +
                         " -> Update Keys.ON_SET_FIELD_ERROR setting to: OnSetFieldError.IGNORE%n"));
     }
+
+    @Test
+    void ignoreAccessorError() throws IllegalAccessException {
+        final InternalNode mockNode = getMockNodeWithAccessor();
+        final FieldAssigner assigner = createAssigner(OnSetFieldError.IGNORE);
+
+        assertThatCode(() -> assigner.assign(mockNode, "any-target", "any-value"))
+                .doesNotThrowAnyException();
+
+        verify(mockNode.getFieldAccessor()).set("any-target", "any-value");
+        verify(mockNode.getField(), never()).setAccessible(true);
+    }
+
+    @Test
+    void failOnAccessorError() throws IllegalAccessException {
+        final FieldAssigner assigner = createAssigner(OnSetFieldError.FAIL);
+        final InternalNode mockNode = getMockNodeWithAccessor();
+
+        assertThatThrownBy(() -> assigner.assign(mockNode, "any-target", "any-value"))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasRootCauseExactlyInstanceOf(IllegalAccessException.class)
+                .hasMessageContaining(" -> java.lang.IllegalAccessException: expected error");
+    }
 }
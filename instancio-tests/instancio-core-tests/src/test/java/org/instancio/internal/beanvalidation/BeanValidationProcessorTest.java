@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.beanvalidation;
+
+import org.instancio.internal.util.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BeanValidationProcessorTest {
+
+    @SuppressWarnings("unused") // used via reflection
+    private String unannotated;
+
+    @Deprecated
+    @SuppressWarnings("unused") // used via reflection
+    private String annotated;
+
+    @Test
+    void shouldReturnNoConstraintsForUnannotatedField() {
+        final Field field = ReflectionUtils.getField(BeanValidationProcessorTest.class, "unannotated");
+
+        assertThat(BeanValidationProcessor.getConstraints(field)).isSameAs(FieldConstraints.NONE);
+    }
+
+    /**
+     * Bean Validation API is not on the classpath, therefore
+     * no constraints should be resolved from other annotations.
+     */
+    @Test
+    void shouldReturnNoConstraintsForUnsupportedAnnotations() {
+        final Field field = ReflectionUtils.getField(BeanValidationProcessorTest.class, "annotated");
+
+        assertThat(BeanValidationProcessor.getConstraints(field).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.context;
+
+import org.instancio.Instancio;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+import static org.instancio.Select.fields;
+
+/**
+ * Since the cache is global, each test uses a different
+ * max depth to avoid sharing entries with other tests.
+ */
+class NodeTreeCacheTest {
+
+    private final AtomicInteger factoryInvocations = new AtomicInteger();
+
+    private final Supplier<InternalNode> rootNodeFactory = () -> {
+        factoryInvocations.incrementAndGet();
+        return InternalNode.ignoredNode();
+    };
+
+    @Test
+    void shouldReuseNodeTreeForEquivalentContexts() {
+        final InternalNode first = NodeTreeCache.getRootNode(ModelContext.builder(Person.class)
+                .withMaxDepth(101)
+                .withIgnored(field(Person::getAge))
+                .withSubtype(all(Address.class), Address.class)
+                .build(), rootNodeFactory);
+
+        final InternalNode second = NodeTreeCache.getRootNode(ModelContext.builder(Person.class)
+                .withMaxDepth(101)
+                .withIgnored(field(Person::getAge))
+                .withSubtype(all(Address.class), Address.class)
+                .build(), rootNodeFactory);
+
+        assertThat(second).isSameAs(first);
+        assertThat(factoryInvocations).hasValue(1);
+    }
+
+    @Test
+    void shouldNotReuseNodeTreeIfStructuralDataDiffers() {
+        NodeTreeCache.getRootNode(ModelContext.builder(Person.class)
+                .withMaxDepth(102)
+                .build(), rootNodeFactory);
+
+        NodeTreeCache.getRootNode(ModelContext.builder(Person.class)
+                .withMaxDepth(103)
+                .build(), rootNodeFactory);
+
+        NodeTreeCache.getRootNode(ModelContext.builder(Person.class)
+                .withMaxDepth(102)
+                .withIgnored(field(Person::getAge))
+                .build(), rootNodeFactory);
+
+        NodeTreeCache.getRootNode(ModelContext.builder(Address.class)
+                .withMaxDepth(102)
+                .build(), rootNodeFactory);
+
+        assertThat(factoryInvocations).hasValue(4);
+    }
+
+    @Test
+    void shouldNotCacheNodeTreeIfContextHasPredicateSelectors() {
+        for (int i = 0; i < 2; i++) {
+            NodeTreeCache.getRootNode(ModelContext.builder(Person.class)
+                    .withMaxDepth(104)
+                    .withIgnored(all(Address.class))
+                    .withIgnored(field(Person::getAge))
+                    .build(), rootNodeFactory);
+
+            NodeTreeCache.getRootNode(ModelContext.builder(Person.class)
+                    .withMaxDepth(104)
+                    .withIgnored(fields(f -> f.getName().equals("age")))
+                    .build(), rootNodeFactory);
+        }
+
+        assertThat(factoryInvocations).hasValue(3);
+    }
+
+    @Test
+    void strictModeShouldTreatSelectorsAsUsedWhenTreeIsReused() {
+        for (int i = 0; i < 3; i++) {
+            final Person result = Instancio.of(Person.class)
+                    .withMaxDepth(105)
+                    .ignore(field(Address::getCity))
+                    .subtype(field(Address::getPhoneNumbers), LinkedList.class)
+                    .create();
+
+            assertThat(result.getAddress().getCity()).isNull();
+            assertThat(result.getAddress().getPhoneNumbers()).isInstanceOf(LinkedList.class);
+        }
+    }
+
+    @Test
+    void shouldCacheNodeTreeForClassFromAnotherClassLoader() throws Exception {
+        try (URLClassLoader classLoader = isolatedClassLoader()) {
+            final Class<?> isolatedAddress = classLoader.loadClass(Address.class.getName());
+
+            for (int i = 0; i < 2; i++) {
+                NodeTreeCache.getRootNode(ModelContext.builder(isolatedAddress)
+                        .withMaxDepth(106)
+                        .build(), rootNodeFactory);
+            }
+        }
+
+        assertThat(factoryInvocations).hasValue(1);
+    }
+
+    @Test
+    void shouldNotCacheNodeTreeIfClassesAreFromUnrelatedClassLoaders() throws Exception {
+        try (URLClassLoader classLoader = isolatedClassLoader()) {
+            final Class<?> isolatedAddress = classLoader.loadClass(Address.class.getName());
+
+            for (int i = 0; i < 2; i++) {
+                NodeTreeCache.getRootNode(ModelContext.builder(Person.class)
+                        .withMaxDepth(107)
+                        .withSubtype(all(Address.class), isolatedAddress)
+                        .build(), rootNodeFactory);
+            }
+        }
+
+        assertThat(factoryInvocations).hasValue(2);
+    }
+
+    @Test
+    void cachedNodeTreeShouldBeSafeToShareAcrossThreads() throws Exception {
+        final int threads = 8;
+        final int objectsPerThread = 50;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final List<Callable<List<Person>>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    final List<Person> results = new ArrayList<>();
+                    for (int i = 0; i < objectsPerThread; i++) {
+                        results.add(createPerson(i));
+                    }
+                    return results;
+                });
+            }
+
+            for (Future<List<Person>> future : executor.invokeAll(tasks)) {
+                final List<Person> results = future.get();
+                for (int i = 0; i < objectsPerThread; i++) {
+                    assertThat(results.get(i))
+                            .usingRecursiveComparison()
+                            .isEqualTo(createPerson(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Person createPerson(final long seed) {
+        return Instancio.of(Person.class)
+                .withMaxDepth(108)
+                .withSeed(seed)
+                .create();
+    }
+
+    /**
+     * Returns a class loader that loads test classes independently
+     * of the application class loader.
+     */
+    private static URLClassLoader isolatedClassLoader() {
+        final URL location = Address.class.getProtectionDomain().getCodeSource().getLocation();
+        return new URLClassLoader(new URL[]{location}, null);
+    }
+}
@@ -22,6 +22,7 @@ import org.instancio.TargetSelector;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeContext;
 import org.instancio.internal.nodes.NodeFactory;
+import org.instancio.internal.selectors.SelectorBuilder;
 import org.instancio.internal.selectors.SelectorImpl;
 import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.test.support.pojo.person.Address;
@@ -88,6 +89,28 @@ class SelectorMapTest {
         assertThat(selectorMap.getValues(richPersonListOfPhonesPhoneNumberFieldNode)).containsOnly("baz");
     }
 
+    @Test
+    void resolvedValuesShouldBeMemoizedUntilSelectorIsAdded() {
+        put(field(Person.class, "name"), "foo");
+
+        assertThat(selectorMap.getValue(personNameNode)).isSameAs(selectorMap.getValue(personNameNode));
+        assertThat(selectorMap.getValues(personNameNode)).isSameAs(selectorMap.getValues(personNameNode));
+        assertThat(selectorMap.getUnusedKeys()).isEmpty();
+
+        put(field(Person.class, "name"), "bar");
+        assertThat(selectorMap.getValue(personNameNode)).contains("bar");
+        assertThat(selectorMap.getValues(personNameNode)).containsOnly("bar");
+    }
+
+    @Test
+    void emptyMapShouldNotMatchAnyNode() {
+        assertThat(selectorMap.getValue(personNameNode)).isEmpty();
+        assertThat(selectorMap.getValues(personNameNode)).isEmpty();
+
+        put(field(Person.class, "name"), "foo");
+        assertThat(selectorMap.getValue(personNameNode)).contains("foo");
+    }
+
     @Test
     void precedence() {
         put(field(Person.class, "name"), "foo");
@@ -200,6 +223,45 @@ class SelectorMapTest {
         return result;
     }
 
+    @Nested
+    class PredicateSelectorTest {
+        private void putPredicate(final TargetSelector selector, final String value) {
+            final TargetSelector target = selector instanceof SelectorBuilder
+                    ? ((SelectorBuilder) selector).build()
+                    : selector;
+            selectorMap.put(target, value);
+        }
+
+        @Test
+        void lastFieldPredicateMatchTakesPrecedenceOverClassPredicates() {
+            putPredicate(Select.fields().named("name").declaredIn(Person.class), "foo");
+            putPredicate(Select.fields(f -> f.getName().equals("name")), "bar");
+            putPredicate(Select.fields().declaredIn(Pet.class), "baz");
+            putPredicate(Select.types().of(String.class), "type");
+
+            assertThat(selectorMap.getValue(personNameNode)).contains("bar");
+            assertThat(selectorMap.getValue(petNameNode)).contains("baz");
+            assertThat(selectorMap.getValue(phoneNumberNode)).contains("type");
+        }
+
+        @Test
+        void getValuesShouldReturnMatchesInTheOrderSelectorsWereAdded() {
+            putPredicate(Select.types().of(String.class), "type1");
+            putPredicate(Select.fields().named("name"), "field1");
+            putPredicate(Select.types(t -> t == String.class), "type2");
+            putPredicate(Select.fields().matching("na.*").declaredIn(Person.class), "field2");
+            putPredicate(Select.fields().named("number"), "unmatched");
+
+            assertThat(selectorMap.getValues(personNameNode))
+                    .containsExactly("type1", "field1", "type2", "field2");
+
+            assertThat(selectorMap.getValues(petNameNode))
+                    .containsExactly("type1", "field1", "type2");
+
+            assertThat(selectorMap.getUnusedKeys()).hasSize(1);
+        }
+    }
+
     @Nested
     class ToStringTest {
         @Test
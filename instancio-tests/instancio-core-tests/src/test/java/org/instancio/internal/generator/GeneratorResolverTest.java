@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator;
+
+import org.instancio.generator.Generator;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.context.BooleanSelectorMap;
+import org.instancio.internal.context.SubtypeSelectorMap;
+import org.instancio.internal.generator.lang.EnumGenerator;
+import org.instancio.internal.generator.lang.StringGenerator;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.nodes.NodeContext;
+import org.instancio.internal.nodes.NodeFactory;
+import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.testsupport.utils.NodeUtils.getChildNode;
+
+class GeneratorResolverTest {
+    private static final NodeContext NODE_CONTEXT = NodeContext.builder()
+            .maxDepth(Integer.MAX_VALUE)
+            .ignoredSelectorMap(new BooleanSelectorMap(Collections.emptySet()))
+            .subtypeSelectorMap(new SubtypeSelectorMap(Collections.emptyMap()))
+            .build();
+
+    private final GeneratorContext context = new GeneratorContext(Settings.defaults(), new DefaultRandom());
+    private final GeneratorResolver generatorResolver = new GeneratorResolver(context, Collections.emptyList());
+    private final InternalNode rootNode = new NodeFactory(NODE_CONTEXT).createRootNode(Person.class);
+
+    @Test
+    void builtInGeneratorShouldBeReusedForTheSameNode() {
+        final InternalNode nameNode = getChildNode(rootNode, "name");
+        final Generator<?> generator = generatorResolver.get(nameNode).orElseThrow(AssertionError::new);
+
+        assertThat(generator).isExactlyInstanceOf(StringGenerator.class);
+        assertThat(generatorResolver.get(nameNode)).containsSame(generator);
+    }
+
+    @Test
+    void builtInGeneratorShouldNotBeSharedBetweenNodes() {
+        final InternalNode nameNode = getChildNode(rootNode, "name");
+        final InternalNode cityNode = getChildNode(getChildNode(rootNode, "address"), "city");
+
+        assertThat(generatorResolver.get(nameNode).get())
+                .isNotSameAs(generatorResolver.get(cityNode).get());
+    }
+
+    @Test
+    void enumGenerator() {
+        final InternalNode genderNode = getChildNode(rootNode, "gender");
+
+        assertThat(generatorResolver.get(genderNode).get()).isExactlyInstanceOf(EnumGenerator.class);
+    }
+
+    @Test
+    void noGeneratorForPojo() {
+        assertThat(generatorResolver.get(rootNode)).isEmpty();
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.instancio.internal.instantiation;
 
+import org.instancio.internal.spi.ProviderEntry;
+import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.test.support.pojo.basic.IntegerHolder;
 import org.instancio.test.support.pojo.basic.IntegerHolderWithPrivateDefaultConstructor;
 import org.instancio.test.support.pojo.basic.IntegerHolderWithoutDefaultConstructor;
@@ -26,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,4 +53,46 @@ class InstantiatorTest {
         final Class<?> klass = List.class;
         assertThat(instantiator.instantiate(klass)).isNull();
     }
+
+    @Test
+    void failingStrategyShouldNotBeRetriedAfterAnotherStrategySucceeds() {
+        ThrowingConstructor.invocations = 0;
+
+        final ThrowingConstructor first = instantiator.instantiate(ThrowingConstructor.class);
+        final ThrowingConstructor second = instantiator.instantiate(ThrowingConstructor.class);
+
+        assertThat(first).isNotNull().isNotSameAs(second);
+        assertThat(second).isNotNull();
+        assertThat(ThrowingConstructor.invocations).isOne();
+    }
+
+    @Test
+    void serviceProviderShouldTakePrecedenceOverResolvedStrategy() {
+        final AtomicBoolean enabled = new AtomicBoolean();
+        final IntegerHolder expected = new IntegerHolder();
+        final InstancioServiceProvider provider = new InstancioServiceProvider() {
+            @Override
+            public TypeInstantiator getTypeInstantiator() {
+                return type -> enabled.get() ? expected : null;
+            }
+        };
+
+        final Instantiator spiInstantiator = new Instantiator(ProviderEntry.from(
+                Collections.singletonList(provider), InstancioServiceProvider::getTypeInstantiator));
+
+        assertThat(spiInstantiator.instantiate(IntegerHolder.class)).isNotSameAs(expected);
+
+        enabled.set(true);
+        assertThat(spiInstantiator.instantiate(IntegerHolder.class)).isSameAs(expected);
+    }
+
+    @SuppressWarnings("all")
+    private static class ThrowingConstructor {
+        private static int invocations;
+
+        ThrowingConstructor(String value) {
+            invocations++;
+            throw new IllegalArgumentException("expected error");
+        }
+    }
 }
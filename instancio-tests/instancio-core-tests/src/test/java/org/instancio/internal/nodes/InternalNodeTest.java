@@ -20,11 +20,13 @@ import org.instancio.internal.context.BooleanSelectorMap;
 import org.instancio.internal.context.SubtypeSelectorMap;
 import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.test.support.pojo.collections.lists.ListString;
+import org.instancio.test.support.pojo.collections.lists.TwoListsOfItemString;
 import org.instancio.test.support.pojo.generics.basic.Item;
 import org.instancio.test.support.pojo.generics.basic.Pair;
 import org.instancio.test.support.pojo.generics.basic.Triplet;
 import org.instancio.test.support.pojo.generics.foobarbaz.Baz;
 import org.instancio.test.support.pojo.generics.foobarbaz.Foo;
+import org.instancio.test.support.pojo.person.Address;
 import org.instancio.test.support.pojo.person.Person;
 import org.instancio.test.support.tags.GenericsTag;
 import org.instancio.test.support.tags.NodeTag;
@@ -32,6 +34,7 @@ import org.instancio.testsupport.fixtures.Types;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +76,65 @@ class InternalNodeTest {
         assertThat(NODE_FACTORY.createRootNode(new TypeToken<Optional<Integer>>() {}.get()).getNodeKind()).isEqualTo(NodeKind.CONTAINER);
     }
 
+    @Test
+    void nodesWithSameTypeShouldShareTypeMap() {
+        final InternalNode root = NODE_FACTORY.createRootNode(TwoListsOfItemString.class);
+        final InternalNode list1 = getChildNode(root, "list1");
+        final InternalNode list2 = getChildNode(root, "list2");
+
+        assertThat(list1.getTypeMap()).isSameAs(list2.getTypeMap());
+        assertThat(list1.getOnlyChild().getTypeMap()).isSameAs(list2.getOnlyChild().getTypeMap());
+        assertThat(list1.getTypeMap()).isNotSameAs(list1.getOnlyChild().getTypeMap());
+    }
+
+    @Test
+    void nodesOfNonGenericClassTypesShouldShareTypeMap() {
+        final InternalNode root = NODE_FACTORY.createRootNode(Person.class);
+        final InternalNode name = getChildNode(root, "name");
+        final InternalNode address = getChildNode(root, "address");
+
+        assertThat(name.getTypeMap()).isSameAs(address.getTypeMap());
+        assertThat(name.getTypeMap().size()).isZero();
+    }
+
+    @Test
+    void lazyChildren() {
+        final NodeContext lazyContext = NodeContext.builder()
+                .maxDepth(Integer.MAX_VALUE)
+                .lazy(true)
+                .ignoredSelectorMap(new BooleanSelectorMap(Collections.emptySet()))
+                .subtypeSelectorMap(new SubtypeSelectorMap(Collections.emptyMap()))
+                .build();
+
+        final InternalNode root = new NodeFactory(lazyContext).createRootNode(Person.class);
+        assertThat(root.getChildrenIfCreated()).isNull();
+        assertThat(root).hasToString("Node[Person, depth=0, #chn=?, Person]");
+
+        final InternalNode address = getChildNode(root, "address");
+        assertThat(root.getChildren()).isSameAs(root.getChildren());
+        assertThat(address.getChildrenIfCreated()).isNull();
+
+        final InternalNode eagerRoot = NODE_FACTORY.createRootNode(Person.class);
+        final InternalNode eagerAddress = getChildNode(eagerRoot, "address");
+        assertThat(root.getChildren()).isEqualTo(eagerRoot.getChildren());
+        assertThat(address.getChildren()).isEqualTo(eagerAddress.getChildren());
+    }
+
+    @Test
+    void hasAncestorEqualToSelf() {
+        final InternalNode root = createNode(Person.class, null, null);
+        final InternalNode address = createNode(Address.class, ReflectionUtils.getField(Person.class, "address"), root);
+        final InternalNode person = createNode(Person.class, ReflectionUtils.getField(Address.class, "city"), address);
+        final InternalNode sameAddress = createNode(Address.class, address.getField(), person);
+        final InternalNode otherAddress = createNode(Address.class, ReflectionUtils.getField(Person.class, "name"), person);
+
+        assertThat(root.hasAncestorEqualToSelf()).isFalse();
+        assertThat(address.hasAncestorEqualToSelf()).isFalse();
+        assertThat(person.hasAncestorEqualToSelf()).as("root field is ignored").isTrue();
+        assertThat(sameAddress.hasAncestorEqualToSelf()).isTrue();
+        assertThat(otherAddress.hasAncestorEqualToSelf()).isFalse();
+    }
+
     @Test
     void toBuilder() {
         final InternalNode parent = createNode(Person.class, new TypeToken<Person>() {});
@@ -240,6 +302,17 @@ class InternalNodeTest {
         }
     }
 
+    private static InternalNode createNode(Class<?> klass, Field field, InternalNode parent) {
+        return InternalNode.builder()
+                .nodeContext(NODE_CONTEXT)
+                .type(klass)
+                .rawType(klass)
+                .targetClass(klass)
+                .field(field)
+                .parent(parent)
+                .build();
+    }
+
     private static InternalNode createNode(Class<?> klass, TypeToken<?> type) {
         final NodeContext nodeContext = NodeContext.builder().build();
         return InternalNode.builder()
@@ -16,6 +16,7 @@
 package org.instancio.internal.nodes.resolvers;
 
 import org.instancio.internal.nodes.NodeKind;
+import org.instancio.internal.spi.InternalContainerFactoryProvider;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -30,6 +31,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -76,4 +78,27 @@ class NodeKindResolverTest {
         assertThat(new NodeKindContainerResolver(Collections.emptyList()).resolve(klass))
                 .contains(NodeKind.CONTAINER);
     }
+
+    @Test
+    void facadeShouldResolveContainerClassesFromProviders() {
+        final InternalContainerFactoryProvider provider = new InternalContainerFactoryProvider() {
+            @Override
+            public <S, T> Function<S, T> createFromOtherFunction(final Class<T> type, final List<Class<?>> typeArgs) {
+                return null;
+            }
+
+            @Override
+            public boolean isContainerClass(final Class<?> type) {
+                return type == StringBuilder.class;
+            }
+        };
+
+        final NodeKindResolverFacade withProvider = new NodeKindResolverFacade(Collections.singletonList(provider));
+        final NodeKindResolverFacade withoutProvider = new NodeKindResolverFacade(Collections.emptyList());
+
+        assertThat(withProvider.getNodeKind(StringBuilder.class)).isEqualTo(NodeKind.CONTAINER);
+        assertThat(withoutProvider.getNodeKind(StringBuilder.class)).isEqualTo(NodeKind.DEFAULT);
+        assertThat(withProvider.getNodeKind(List.class)).isEqualTo(NodeKind.COLLECTION);
+        assertThat(withoutProvider.getNodeKind(Optional.class)).isEqualTo(NodeKind.CONTAINER);
+    }
 }
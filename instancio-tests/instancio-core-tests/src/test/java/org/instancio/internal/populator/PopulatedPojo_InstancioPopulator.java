@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.populator;
+
+import org.instancio.spi.FieldWriter;
+import org.instancio.spi.Populator;
+
+/**
+ * Hand-written equivalent of a populator generated by the annotation processor.
+ */
+public final class PopulatedPojo_InstancioPopulator implements Populator {
+
+    static int instanceCount;
+    static int writeCount;
+
+    @Override
+    public Object newInstance() {
+        instanceCount++;
+        return new PopulatedPojo();
+    }
+
+    @Override
+    public FieldWriter getFieldWriter(final String fieldName) {
+        switch (fieldName) {
+            case "value":
+                return (target, value) -> {
+                    writeCount++;
+                    ((PopulatedPojo) target).value = (String) value;
+                };
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.populator;
+
+import org.instancio.Instancio;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopulatorsTest {
+
+    @Test
+    void get() {
+        assertThat(Populators.get(PopulatedPojo.class))
+                .containsInstanceOf(PopulatedPojo_InstancioPopulator.class);
+
+        assertThat(Populators.get(PopulatedPojo.class).get())
+                .as("should be resolved once per class")
+                .isSameAs(Populators.get(PopulatedPojo.class).get());
+    }
+
+    @Test
+    void getReturnsEmptyIfNoPopulatorWasGenerated() {
+        assertThat(Populators.get(Person.class)).isEmpty();
+        assertThat(Populators.get(String.class)).isEmpty();
+        assertThat(Populators.get(int.class)).isEmpty();
+        assertThat(Populators.get(PopulatedPojo[].class)).isEmpty();
+    }
+
+    @Test
+    void getFieldWriter() throws Exception {
+        assertThat(Populators.getFieldWriter(PopulatedPojo.class.getDeclaredField("value"))).isNotNull();
+        assertThat(Populators.getFieldWriter(PopulatedPojo.class.getDeclaredField("privateValue"))).isNull();
+    }
+
+    @Test
+    void shouldCreateAndPopulateUsingGeneratedPopulator() {
+        final int instanceCountBefore = PopulatedPojo_InstancioPopulator.instanceCount;
+        final int writeCountBefore = PopulatedPojo_InstancioPopulator.writeCount;
+
+        final PopulatedPojo result = Instancio.create(PopulatedPojo.class);
+
+        assertThat(result.value).isNotBlank();
+        assertThat(result.getPrivateValue()).isNotNull();
+        assertThat(PopulatedPojo_InstancioPopulator.instanceCount).isEqualTo(instanceCountBefore + 1);
+        assertThat(PopulatedPojo_InstancioPopulator.writeCount).isGreaterThan(writeCountBefore);
+    }
+}
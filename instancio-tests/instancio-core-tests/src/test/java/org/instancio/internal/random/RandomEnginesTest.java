@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.RandomEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RandomEnginesTest {
+    private static final long SEED = 12345;
+    private static final int SAMPLE_SIZE = 10_000;
+
+    @Test
+    void javaUtilRandomShouldProduceSameSequenceAsJavaUtilRandom() {
+        final Random expected = new Random(SEED);
+        final Random actual = RandomEngines.create(RandomEngine.JAVA_UTIL_RANDOM, SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(actual.nextLong()).isEqualTo(expected.nextLong());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomEngine.class)
+    void sameSeedShouldProduceSameSequence(final RandomEngine engine) {
+        final Random random1 = RandomEngines.create(engine, SEED);
+        final Random random2 = RandomEngines.create(engine, SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(random1.nextLong()).isEqualTo(random2.nextLong());
+            assertThat(random1.nextInt(10)).isEqualTo(random2.nextInt(10));
+            assertThat(random1.nextDouble()).isEqualTo(random2.nextDouble());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomEngine.class)
+    void boundedValues(final RandomEngine engine) {
+        final Random random = RandomEngines.create(engine, SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(random.nextInt(11)).isBetween(0, 10);
+            assertThat(RandomDataGenerator.nextLong(random, -5, 5)).isBetween(-5L, 5L);
+            assertThat(RandomDataGenerator.nextLong(random, 0, Long.MAX_VALUE)).isNotNegative();
+            assertThat(random.nextDouble()).isGreaterThanOrEqualTo(0).isLessThan(1);
+            assertThat(random.nextFloat()).isGreaterThanOrEqualTo(0).isLessThan(1);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomEngine.class)
+    void allValuesInRangeShouldBeGenerated(final RandomEngine engine) {
+        final Random random = RandomEngines.create(engine, SEED);
+
+        assertThat(IntStream.range(0, SAMPLE_SIZE).map(i -> random.nextInt(7)).distinct())
+                .containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6);
+    }
+}
@@ -50,4 +50,11 @@ class DeclaredAndInheritedFieldsCollectorTest {
         assertThat(results).isEmpty();
     }
 
+    @Test
+    void fieldsShouldBeCachedAcrossInstances() {
+        final List<Field> results = fieldsCollector.getFields(Person.class);
+
+        assertThat(new DeclaredAndInheritedFieldsCollector().getFields(Person.class)).isSameAs(results);
+    }
+
 }
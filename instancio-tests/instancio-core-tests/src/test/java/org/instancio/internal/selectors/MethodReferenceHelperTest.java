@@ -15,6 +15,7 @@
  */
 package org.instancio.internal.selectors;
 
+import org.instancio.Selector;
 import org.instancio.test.support.pojo.misc.getters.BeanStylePojo;
 import org.instancio.test.support.pojo.misc.getters.PropertyStylePojo;
 import org.instancio.test.support.pojo.person.Person;
@@ -33,6 +34,22 @@ class MethodReferenceHelperTest {
                 .hasNoScope();
     }
 
+    @Test
+    void resolveSameMethodReferenceRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            final Selector selector = MethodReferenceHelper.resolve(Person::getName);
+
+            assertSelector(selector)
+                    .hasTargetClass(Person.class)
+                    .hasFieldName("name")
+                    .hasNoScope();
+
+            // each resolved selector should have its own location
+            assertThat(((SelectorImpl) selector).getStackTraceHolder())
+                    .isNotSameAs(((SelectorImpl) MethodReferenceHelper.resolve(Person::getName)).getStackTraceHolder());
+        }
+    }
+
     @Test
     void getPropertyName() {
         // java beans style
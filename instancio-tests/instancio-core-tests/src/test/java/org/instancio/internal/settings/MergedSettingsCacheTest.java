@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.settings;
+
+import org.instancio.Mode;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.support.Global;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MergedSettingsCacheTest {
+
+    private static final Settings BASE = Global.getPropertiesFileSettings();
+
+    @Test
+    void shouldReturnBaseSettingsIfNothingToMerge() {
+        assertThat(MergedSettingsCache.get(BASE, null, null, false)).isSameAs(BASE);
+    }
+
+    @Test
+    void shouldReuseMergedSettingsForLockedInputs() {
+        final Settings threadLocal = Settings.create().set(Keys.MAX_DEPTH, 3).lock();
+        final Settings other = Settings.create().set(Keys.STRING_MIN_LENGTH, 5).lock();
+
+        final Settings result = MergedSettingsCache.get(BASE, threadLocal, other, false);
+
+        assertThat(MergedSettingsCache.get(BASE, threadLocal, other, false)).isSameAs(result);
+        assertThat(MergedSettingsCache.get(BASE, threadLocal, other, true)).isNotSameAs(result);
+        assertThat(result.get(Keys.MAX_DEPTH)).isEqualTo(3);
+        assertThat(result.get(Keys.STRING_MIN_LENGTH)).isEqualTo(5);
+        assertThat(((InternalSettings) result).isLocked()).isTrue();
+    }
+
+    @Test
+    void shouldStoreMergedSettingsOnInputWithHighestPrecedence() {
+        final Settings threadLocal = Settings.create().set(Keys.MAX_DEPTH, 3).lock();
+        final Settings other = Settings.create().set(Keys.STRING_MIN_LENGTH, 5).lock();
+
+        final Settings result = MergedSettingsCache.get(BASE, threadLocal, other, false);
+
+        assertThat(((InternalSettings) other).mergedSettings).isNotNull();
+        assertThat(((InternalSettings) threadLocal).mergedSettings).isNull();
+
+        // same input with a different thread-local instance
+        final Settings otherThreadLocal = Settings.create().set(Keys.MAX_DEPTH, 4).lock();
+        final Settings otherResult = MergedSettingsCache.get(BASE, otherThreadLocal, other, false);
+
+        assertThat(otherResult).isNotSameAs(result);
+        assertThat(otherResult.get(Keys.MAX_DEPTH)).isEqualTo(4);
+        assertThat(otherResult.get(Keys.STRING_MIN_LENGTH)).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNotReuseMergedSettingsIfInputIsNotLocked() {
+        final Settings other = Settings.create().set(Keys.STRING_MIN_LENGTH, 5);
+
+        final Settings result = MergedSettingsCache.get(BASE, null, other, false);
+
+        assertThat(MergedSettingsCache.get(BASE, null, other, false)).isNotSameAs(result);
+        assertThat(result.get(Keys.STRING_MIN_LENGTH)).isEqualTo(5);
+        assertThat(((InternalSettings) result).isLocked()).isTrue();
+    }
+
+    @Test
+    void otherSettingsShouldTakePrecedenceOverThreadLocalSettings() {
+        final Settings threadLocal = Settings.create().set(Keys.MAX_DEPTH, 3).lock();
+        final Settings other = Settings.create().set(Keys.MAX_DEPTH, 4).lock();
+
+        assertThat(MergedSettingsCache.get(BASE, threadLocal, other, false).get(Keys.MAX_DEPTH)).isEqualTo(4);
+    }
+
+    @Test
+    void lenient() {
+        final Settings other = Settings.create().set(Keys.MODE, Mode.STRICT).lock();
+
+        assertThat(MergedSettingsCache.get(BASE, null, null, true).get(Keys.MODE)).isEqualTo(Mode.LENIENT);
+        assertThat(MergedSettingsCache.get(BASE, null, other, true).get(Keys.MODE)).isEqualTo(Mode.LENIENT);
+    }
+}
@@ -16,6 +16,7 @@
 package org.instancio.internal.settings;
 
 import org.instancio.Mode;
+import org.instancio.RandomEngine;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,5 +33,7 @@ class SettingsSupportTest {
         assertThat(SettingsSupport.getFunction(Float.class).apply("10.8")).isEqualTo(10.8f);
         assertThat(SettingsSupport.getFunction(Double.class).apply("10.2")).isEqualTo(10.2d);
         assertThat(SettingsSupport.getFunction(Mode.class).apply("LENIENT")).isEqualTo(Mode.LENIENT);
+        assertThat(SettingsSupport.getFunction(RandomEngine.class).apply("SPLITTABLE_RANDOM"))
+                .isEqualTo(RandomEngine.SPLITTABLE_RANDOM);
     }
 }
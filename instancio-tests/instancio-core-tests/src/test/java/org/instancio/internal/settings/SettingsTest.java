@@ -17,6 +17,7 @@ package org.instancio.internal.settings;
 
 import org.instancio.Instancio;
 import org.instancio.Mode;
+import org.instancio.RandomEngine;
 import org.instancio.TypeToken;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.AfterGenerate;
@@ -34,6 +35,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -56,6 +58,22 @@ class SettingsTest {
         }
     }
 
+    @Test
+    void lockedSettingsShouldReturnSameValuesAsUnlocked() {
+        final Map<Object, Object> map = new HashMap<>();
+        map.put(Keys.STRING_MIN_LENGTH.propertyKey(), "7");
+        map.put(Keys.MAX_DEPTH.propertyKey(), 3);
+
+        final Settings unlocked = Settings.defaults().merge(Settings.from(map));
+        final Settings locked = Settings.from(unlocked).lock();
+
+        for (SettingKey<?> settingKey : Keys.all()) {
+            assertThat(locked.get(settingKey)).isEqualTo(unlocked.get(settingKey));
+        }
+        assertThat(locked.get(Keys.STRING_MIN_LENGTH)).isEqualTo(7);
+        assertThat(locked.get(Keys.MAX_DEPTH)).isEqualTo(3);
+    }
+
     @Test
     void from() {
         final Map<Object, Object> map = new HashMap<>();
@@ -160,6 +178,16 @@ class SettingsTest {
                 .hasMessage("This instance of Settings has been locked and is read-only");
     }
 
+    @Test
+    void equalsAndHashCode() {
+        final Settings settings = Settings.defaults().mapType(List.class, ArrayList.class);
+        final Settings copy = Settings.from(settings).lock();
+
+        assertThat(copy).isEqualTo(settings).hasSameHashCodeAs(settings);
+        assertThat(Settings.from(settings).set(Keys.LONG_MAX, 1L)).isNotEqualTo(settings);
+        assertThat(Settings.defaults()).isNotEqualTo(settings);
+    }
+
     @Test
     void verifyToStringEmptySettings() {
         assertThat(Settings.create().toString()).containsSubsequence(
@@ -271,6 +299,16 @@ class SettingsTest {
                 .isExactlyInstanceOf(ConcurrentSkipListMap.class);
     }
 
+    @Test
+    void randomEngineFromProperties() {
+        final Properties properties = new Properties();
+        properties.setProperty(Keys.RANDOM_ENGINE.propertyKey(), "XOROSHIRO_128_PLUS_PLUS");
+
+        final Settings settings = Settings.from(properties);
+
+        assertThat(settings.get(Keys.RANDOM_ENGINE)).isEqualTo(RandomEngine.XOROSHIRO_128_PLUS_PLUS);
+    }
+
     @Test
     void userDefinedKeyFromProperties() {
         final SettingKey<Integer> key = Keys.ofType(Integer.class)
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.spi;
+
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.spi.InstancioServiceProvider;
+import org.instancio.spi.ServiceProviderContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProvidersCacheTest {
+
+    @AfterEach
+    void tearDown() {
+        ProvidersCache.clear();
+    }
+
+    @Test
+    void shouldReuseProvidersForEqualSettings() {
+        final Providers providers = ProvidersCache.get(Settings.defaults().lock());
+
+        assertThat(ProvidersCache.get(Settings.defaults().lock())).isSameAs(providers);
+        assertThat(ProvidersCache.get(Settings.defaults().set(Keys.MAX_DEPTH, 1).lock())).isNotSameAs(providers);
+    }
+
+    @Test
+    void clear() {
+        final Settings settings = Settings.defaults().lock();
+        final Providers providers = ProvidersCache.get(settings);
+
+        ProvidersCache.clear();
+
+        assertThat(ProvidersCache.get(settings)).isNotSameAs(providers);
+    }
+
+    @Test
+    void shouldLoadProvidersUsingContextClassLoader(@TempDir final Path dir) throws IOException {
+        final Path services = Files.createDirectories(dir.resolve("META-INF/services"));
+        Files.write(services.resolve(InstancioServiceProvider.class.getName()),
+                Collections.singletonList(TypeInstantiatorServiceProvider.class.getName()));
+
+        final Settings settings = Settings.defaults().lock();
+        final Providers withoutProvider = ProvidersCache.get(settings);
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, original)) {
+            thread.setContextClassLoader(classLoader);
+
+            final Providers withProvider = ProvidersCache.get(settings);
+
+            assertThat(withProvider).isNotSameAs(withoutProvider);
+            assertThat(withProvider.getTypeInstantiators()).hasSize(1);
+            assertThat(ProvidersCache.get(settings)).isSameAs(withProvider);
+            assertThat(TypeInstantiatorServiceProvider.initCount).isEqualTo(1);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+
+        assertThat(ProvidersCache.get(settings)).isSameAs(withoutProvider);
+    }
+
+    @Test
+    void shouldNotPreventClassLoaderFromBeingGarbageCollected() throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        final WeakReference<ClassLoader> ref = loadProvidersUsingNewClassLoader(thread, original);
+
+        for (int i = 0; i < 20 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(ref.get()).isNull();
+    }
+
+    private static WeakReference<ClassLoader> loadProvidersUsingNewClassLoader(
+            final Thread thread, final ClassLoader original) throws IOException {
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], original)) {
+            thread.setContextClassLoader(classLoader);
+            ProvidersCache.get(Settings.defaults().lock());
+            return new WeakReference<>(classLoader);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    public static class TypeInstantiatorServiceProvider implements InstancioServiceProvider {
+        static int initCount;
+
+        @Override
+        public void init(final ServiceProviderContext context) {
+            initCount++;
+        }
+
+        @Override
+        public TypeInstantiator getTypeInstantiator() {
+            return (type) -> null;
+        }
+    }
+}
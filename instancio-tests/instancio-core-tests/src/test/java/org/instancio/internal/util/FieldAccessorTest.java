@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.instancio.test.support.pojo.basic.PrimitiveFields;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldAccessorTest {
+
+    private static Field field(final Class<?> klass, final String name) {
+        return ReflectionUtils.getField(klass, name);
+    }
+
+    @Test
+    void shouldReturnCachedInstance() {
+        final Field field = field(Person.class, "name");
+
+        assertThat(FieldAccessor.of(field)).isSameAs(FieldAccessor.of(field));
+    }
+
+    @Test
+    void getAndSet() throws Exception {
+        final FieldAccessor accessor = FieldAccessor.of(field(Person.class, "name"));
+        final Person person = new Person();
+
+        accessor.set(person, "foo");
+
+        assertThat(person.getName()).isEqualTo("foo");
+        assertThat(accessor.get(person)).isEqualTo("foo");
+    }
+
+    @Test
+    void getAndSetPrimitive() throws Exception {
+        final FieldAccessor accessor = FieldAccessor.of(field(PrimitiveFields.class, "longValue"));
+        final PrimitiveFields obj = new PrimitiveFields();
+
+        accessor.set(obj, 123L);
+
+        assertThat(obj.getLongValue()).isEqualTo(123L);
+        assertThat(accessor.get(obj)).isEqualTo(123L);
+    }
+
+    @Test
+    void setWrongTypeShouldFailWithIllegalArgumentException() {
+        final FieldAccessor accessor = FieldAccessor.of(field(PrimitiveFields.class, "intValue"));
+
+        assertThatThrownBy(() -> accessor.set(new PrimitiveFields(), "foo"))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void setShouldWidenPrimitiveValue() throws Exception {
+        final FieldAccessor accessor = FieldAccessor.of(field(PrimitiveFields.class, "longValue"));
+        final PrimitiveFields obj = new PrimitiveFields();
+
+        accessor.set(obj, 123);
+
+        assertThat(obj.getLongValue()).isEqualTo(123L);
+    }
+
+    @Test
+    void setNullToPrimitiveShouldFailWithIllegalArgumentException() {
+        final FieldAccessor accessor = FieldAccessor.of(field(PrimitiveFields.class, "intValue"));
+
+        assertThatThrownBy(() -> accessor.set(new PrimitiveFields(), null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nullTargetShouldFailWithNullPointerException() {
+        final FieldAccessor accessor = FieldAccessor.of(field(Person.class, "name"));
+
+        assertThatThrownBy(() -> accessor.get(null)).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> accessor.set(null, "foo")).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getFromWrongTargetShouldFailWithIllegalArgumentException() {
+        final FieldAccessor accessor = FieldAccessor.of(field(Person.class, "name"));
+
+        assertThatThrownBy(() -> accessor.get(new PrimitiveFields()))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void hasNonDefaultValue() throws Exception {
+        final PrimitiveFields obj = PrimitiveFields.builder().doubleValue(-0.0).build();
+
+        assertThat(FieldAccessor.of(field(PrimitiveFields.class, "intValue")).hasNonDefaultValue(obj)).isFalse();
+        assertThat(FieldAccessor.of(field(PrimitiveFields.class, "doubleValue")).hasNonDefaultValue(obj))
+                .as("should be consistent with Double.equals()")
+                .isTrue();
+
+        assertThat(FieldAccessor.of(field(Person.class, "name")).hasNonDefaultValue(new Person())).isFalse();
+    }
+
+    @Test
+    void staticField() throws Exception {
+        final FieldAccessor accessor = FieldAccessor.of(field(StaticFieldHolder.class, "value"));
+
+        accessor.set(null, "foo");
+
+        assertThat(accessor.get(null)).isEqualTo("foo");
+    }
+
+    @SuppressWarnings("all")
+    private static class StaticFieldHolder {
+        private static String value;
+    }
+}
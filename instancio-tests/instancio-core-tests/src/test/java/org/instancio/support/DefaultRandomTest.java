@@ -15,6 +15,7 @@
  */
 package org.instancio.support;
 
+import org.instancio.RandomEngine;
 import org.instancio.test.support.tags.NonDeterministicTag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
@@ -431,4 +433,52 @@ class DefaultRandomTest {
                     .hasMessage(expectedErrorMsg);
         }
     }
+
+    @Nested
+    class RandomEngineTest {
+
+        @EnumSource(RandomEngine.class)
+        @ParameterizedTest
+        void strings(final RandomEngine engine) {
+            final DefaultRandom engineRandom = new DefaultRandom(Seeds.randomSeed(), engine);
+
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                final int length = engineRandom.intRange(0, 5);
+
+                assertThat(engineRandom.lowerCaseAlphabetic(length)).hasSize(length).containsPattern(LOWER_CASE_ALPHABETIC_PATTERN);
+                assertThat(engineRandom.upperCaseAlphabetic(length)).hasSize(length).containsPattern(UPPER_CASE_ALPHABETIC_PATTERN);
+                assertThat(engineRandom.mixedCaseAlphabetic(length)).hasSize(length).containsPattern(MIXED_CASE_ALPHABETIC_PATTERN);
+                assertThat(engineRandom.alphanumeric(length)).hasSize(length).containsPattern(ALPHANUMERIC_PATTERN);
+                assertThat(engineRandom.digits(length)).hasSize(length).containsPattern(DIGITS_PATTERN);
+            }
+        }
+
+        @EnumSource(RandomEngine.class)
+        @ParameterizedTest
+        void characters(final RandomEngine engine) {
+            final DefaultRandom engineRandom = new DefaultRandom(Seeds.randomSeed(), engine);
+
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                results.add(engineRandom.alphanumericCharacter());
+                assertThat(engineRandom.characterRange('0', '9')).isBetween('0', '9');
+                assertThat(engineRandom.characterRange('x', 'x')).isEqualTo('x');
+            }
+
+            assertThat(results).hasSize(62);
+        }
+
+        @EnumSource(RandomEngine.class)
+        @ParameterizedTest
+        void sameSeedShouldProduceSameStrings(final RandomEngine engine) {
+            final long seed = Seeds.randomSeed();
+            final DefaultRandom random1 = new DefaultRandom(seed, engine);
+            final DefaultRandom random2 = new DefaultRandom(seed, engine);
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(random1.alphanumeric(i)).isEqualTo(random2.alphanumeric(i));
+                assertThat(random1.stringOf(i, 'a', 'b', 'c')).isEqualTo(random2.stringOf(i, 'a', 'b', 'c'));
+                assertThat(random1.lowerCaseCharacter()).isEqualTo(random2.lowerCaseCharacter());
+            }
+        }
+    }
 }
@@ -17,6 +17,9 @@ package org.instancio.support;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SeedsTest {
@@ -29,4 +32,25 @@ class SeedsTest {
             assertThat(Seeds.randomSeed()).isNotNegative();
         }
     }
+
+    @Test
+    void deriveSeedShouldBeDeterministic() {
+        for (long i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(Seeds.deriveSeed(123, i)).isEqualTo(Seeds.deriveSeed(123, i));
+        }
+    }
+
+    @Test
+    void deriveSeedShouldProduceDistinctSeedsForDistinctIndices() {
+        final Set<Long> seeds = new HashSet<>();
+        for (long i = 0; i < SAMPLE_SIZE; i++) {
+            seeds.add(Seeds.deriveSeed(123, i));
+        }
+        assertThat(seeds).hasSize(SAMPLE_SIZE);
+    }
+
+    @Test
+    void deriveSeedShouldDependOnBaseSeed() {
+        assertThat(Seeds.deriveSeed(1, 0)).isNotEqualTo(Seeds.deriveSeed(2, 0));
+    }
 }
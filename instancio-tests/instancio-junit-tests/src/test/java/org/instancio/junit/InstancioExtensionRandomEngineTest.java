@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.junit;
+
+import org.instancio.Instancio;
+import org.instancio.RandomEngine;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(InstancioExtension.class)
+class InstancioExtensionRandomEngineTest {
+    private static final long SEED = 123;
+
+    @WithSettings
+    private final Settings settings = Settings.create()
+            .set(Keys.RANDOM_ENGINE, RandomEngine.SPLITTABLE_RANDOM);
+
+    @Test
+    void shouldUseEngineFromSettingsAnnotation() {
+        assertThat(ThreadLocalRandom.getInstance().get())
+                .isInstanceOfSatisfying(DefaultRandom.class, random ->
+                        assertThat(random.getEngine()).isEqualTo(RandomEngine.SPLITTABLE_RANDOM));
+    }
+
+    @Test
+    @Seed(SEED)
+    void shouldGenerateDistinctValues() {
+        final List<String> results = Stream.generate(() -> Instancio.create(String.class))
+                .limit(10)
+                .collect(Collectors.toList());
+
+        assertThat(results).doesNotHaveDuplicates();
+        assertThat(results.get(0)).isEqualTo(Instancio.of(String.class)
+                .withSettings(settings)
+                .withSeed(SEED)
+                .create());
+    }
+
+    @Test
+    @Seed(SEED)
+    void shouldGenerateDistinctValuesIfEngineIsOverridden() {
+        final Settings override = Settings.create()
+                .set(Keys.RANDOM_ENGINE, RandomEngine.XOROSHIRO_128_PLUS_PLUS);
+
+        final List<String> results = Stream.generate(() -> Instancio.of(String.class)
+                        .withSettings(override)
+                        .create())
+                .limit(10)
+                .collect(Collectors.toList());
+
+        assertThat(results).doesNotHaveDuplicates();
+        assertThat(results.get(0)).isEqualTo(Instancio.of(String.class)
+                .withSettings(override)
+                .withSeed(SEED)
+                .create());
+    }
+}
@@ -17,8 +17,15 @@ package org.instancio.processor;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.NoType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -60,4 +67,63 @@ public class ElementMocks {
         when(element.getSimpleName().toString()).thenReturn(simpleName);
         return element;
     }
+
+    static Element mockFieldWithType(final String simpleName, final TypeMirror type, final Modifier... modifiers) {
+        final Element element = mockFieldWithModifiers(simpleName, modifiers);
+        when(element.asType()).thenReturn(type);
+        return element;
+    }
+
+    static TypeMirror mockPrimitiveType(final TypeKind kind) {
+        final TypeMirror type = mock(TypeMirror.class);
+        when(type.getKind()).thenReturn(kind);
+        return type;
+    }
+
+    static DeclaredType mockDeclaredType(final String fullyQualifiedName) {
+        final String packageName = fullyQualifiedName.substring(0, fullyQualifiedName.lastIndexOf('.'));
+        final QualifiedNameable packageElement = mockQualifiedNameable(packageName);
+        when(packageElement.getKind()).thenReturn(ElementKind.PACKAGE);
+        return mockDeclaredType(mockTypeElement(fullyQualifiedName, packageElement, Modifier.PUBLIC));
+    }
+
+    static DeclaredType mockDeclaredType(final TypeElement typeElement) {
+        final NoType enclosingType = mockNoType();
+        final DeclaredType type = mock(DeclaredType.class);
+        when(type.getKind()).thenReturn(TypeKind.DECLARED);
+        when(type.asElement()).thenReturn(typeElement);
+        when(type.getEnclosingType()).thenReturn(enclosingType);
+        return type;
+    }
+
+    static TypeElement mockTypeElement(
+            final String fullyQualifiedName, final Element enclosingElement, final Modifier... modifiers) {
+
+        final TypeElement typeElement = mock(TypeElement.class, RETURNS_DEEP_STUBS);
+        when(typeElement.getKind()).thenReturn(ElementKind.CLASS);
+        when(typeElement.getQualifiedName().toString()).thenReturn(fullyQualifiedName);
+        when(typeElement.getEnclosingElement()).thenReturn(enclosingElement);
+        when(typeElement.getModifiers()).thenReturn(new HashSet<>(Arrays.asList(modifiers)));
+        return typeElement;
+    }
+
+    static NoType mockNoType() {
+        final NoType type = mock(NoType.class);
+        when(type.getKind()).thenReturn(TypeKind.NONE);
+        return type;
+    }
+
+    static ArrayType mockArrayType(final TypeMirror componentType) {
+        final ArrayType type = mock(ArrayType.class);
+        when(type.getKind()).thenReturn(TypeKind.ARRAY);
+        when(type.getComponentType()).thenReturn(componentType);
+        return type;
+    }
+
+    static ExecutableElement mockNoArgConstructorWithModifiers(final Modifier... modifiers) {
+        final ExecutableElement element = mock(ExecutableElement.class);
+        when(element.getKind()).thenReturn(ElementKind.CONSTRUCTOR);
+        when(element.getModifiers()).thenReturn(new HashSet<>(Arrays.asList(modifiers)));
+        return element;
+    }
 }
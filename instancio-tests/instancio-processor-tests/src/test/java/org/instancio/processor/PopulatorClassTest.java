@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.instancio.processor.ElementMocks.mockArrayType;
+import static org.instancio.processor.ElementMocks.mockDeclaredType;
+import static org.instancio.processor.ElementMocks.mockFieldWithType;
+import static org.instancio.processor.ElementMocks.mockNoArgConstructorWithModifiers;
+import static org.instancio.processor.ElementMocks.mockPrimitiveType;
+import static org.instancio.processor.ElementMocks.mockQualifiedNameable;
+import static org.instancio.processor.ElementMocks.mockTypeElement;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+class PopulatorClassTest {
+
+    @Test
+    void topLevelClass() {
+        final QualifiedNameable classElement = mockClass("Outer", "org.example.Outer");
+        doReturn(Collections.singletonList(mockNoArgConstructorWithModifiers()))
+                .when(classElement).getEnclosedElements();
+
+        final PopulatorClass populatorClass = new PopulatorClass(classElement);
+
+        assertThat(populatorClass.getName()).isEqualTo("org.example.Outer");
+        assertThat(populatorClass.getPackageName()).isEqualTo("org.example");
+        assertThat(populatorClass.getPopulatorSimpleName()).isEqualTo("Outer_InstancioPopulator");
+        assertThat(populatorClass.getPopulatorClassName()).isEqualTo("org.example.Outer_InstancioPopulator");
+        assertThat(populatorClass.isAccessible()).isTrue();
+        assertThat(populatorClass.isInstantiable()).isTrue();
+    }
+
+    @Test
+    void staticNestedClass() {
+        final QualifiedNameable outer = mockClass("Outer", "org.example.Outer");
+        final QualifiedNameable nested = mockNestedClass(outer, "Nested", Modifier.STATIC);
+        doReturn(Collections.singletonList(mockNoArgConstructorWithModifiers()))
+                .when(nested).getEnclosedElements();
+
+        final PopulatorClass populatorClass = new PopulatorClass(nested);
+
+        assertThat(populatorClass.getName()).isEqualTo("org.example.Outer.Nested");
+        assertThat(populatorClass.getPopulatorSimpleName()).isEqualTo("Outer$Nested_InstancioPopulator");
+        assertThat(populatorClass.getPopulatorClassName()).isEqualTo("org.example.Outer$Nested_InstancioPopulator");
+        assertThat(populatorClass.isInstantiable()).isTrue();
+    }
+
+    @Test
+    void innerClassIsNotInstantiable() {
+        final QualifiedNameable outer = mockClass("Outer", "org.example.Outer");
+        final QualifiedNameable inner = mockNestedClass(outer, "Inner");
+        doReturn(Collections.singletonList(mockNoArgConstructorWithModifiers()))
+                .when(inner).getEnclosedElements();
+
+        final PopulatorClass populatorClass = new PopulatorClass(inner);
+
+        assertThat(populatorClass.isAccessible()).isTrue();
+        assertThat(populatorClass.isInstantiable()).isFalse();
+    }
+
+    @Test
+    void classNestedInPrivateClassIsNotAccessible() {
+        final QualifiedNameable outer = mockClass("Outer", "org.example.Outer", Modifier.PRIVATE);
+        final QualifiedNameable nested = mockNestedClass(outer, "Nested", Modifier.STATIC);
+
+        assertThat(new PopulatorClass(nested).isAccessible()).isFalse();
+    }
+
+    @Test
+    void privateOrMissingNoArgConstructor() {
+        final QualifiedNameable privateConstructor = mockClass("Foo", "org.example.Foo");
+        doReturn(Collections.singletonList(mockNoArgConstructorWithModifiers(Modifier.PRIVATE)))
+                .when(privateConstructor).getEnclosedElements();
+
+        final QualifiedNameable abstractClass = mockClass("Bar", "org.example.Bar", Modifier.ABSTRACT);
+        doReturn(Collections.singletonList(mockNoArgConstructorWithModifiers()))
+                .when(abstractClass).getEnclosedElements();
+
+        assertThat(new PopulatorClass(privateConstructor).isInstantiable()).isFalse();
+        assertThat(new PopulatorClass(abstractClass).isInstantiable()).isFalse();
+    }
+
+    @Test
+    void getWritableFields() {
+        final QualifiedNameable classElement = mockClass("Foo", "org.example.Foo");
+
+        final List<Element> fields = Arrays.asList(
+                mockFieldWithType("foo", mockDeclaredType("java.lang.String")),
+                mockFieldWithType("bar", mockPrimitiveType(TypeKind.INT), Modifier.PROTECTED),
+                mockFieldWithType("baz", mockDeclaredType("java.lang.String"), Modifier.PRIVATE),
+                mockFieldWithType("gaz", mockDeclaredType("java.lang.String"), Modifier.FINAL),
+                mockFieldWithType("paz", mockDeclaredType("java.lang.String"), Modifier.STATIC));
+
+        doReturn(fields).when(classElement).getEnclosedElements();
+
+        final PopulatorClass populatorClass = new PopulatorClass(classElement);
+
+        assertThat(populatorClass.getWritableFields()).containsExactly(
+                entry("foo", "java.lang.String"),
+                entry("bar", "int"));
+    }
+
+    @Test
+    void shouldExcludeFieldsWhoseTypeIsNotAccessibleFromPopulator() {
+        final QualifiedNameable classElement = mockClass("Foo", "org.example.Foo");
+        final QualifiedNameable otherPackage = mockQualifiedNameable("org.other");
+        when(otherPackage.getKind()).thenReturn(ElementKind.PACKAGE);
+
+        final TypeElement privateNested = mockTypeElement("org.example.Foo.Hidden", classElement, Modifier.PRIVATE);
+        final TypeElement packagePrivateNested = mockTypeElement("org.example.Foo.Visible", classElement);
+        final TypeElement otherPackagePrivate = mockTypeElement("org.other.Bar", otherPackage);
+        final TypeElement otherPackageProtected = mockTypeElement(
+                "org.other.Baz.Nested", mockTypeElement("org.other.Baz", otherPackage, Modifier.PUBLIC), Modifier.PROTECTED);
+
+        final List<Element> fields = Arrays.asList(
+                mockFieldWithType("hidden", mockDeclaredType(privateNested)),
+                mockFieldWithType("hiddenArray", mockArrayType(mockDeclaredType(privateNested))),
+                mockFieldWithType("visible", mockDeclaredType(packagePrivateNested)),
+                mockFieldWithType("bar", mockDeclaredType(otherPackagePrivate)),
+                mockFieldWithType("baz", mockDeclaredType(otherPackageProtected)));
+
+        doReturn(fields).when(classElement).getEnclosedElements();
+
+        final PopulatorClass populatorClass = new PopulatorClass(classElement);
+
+        assertThat(populatorClass.getWritableFields()).containsExactly(
+                entry("visible", "org.example.Foo.Visible"));
+    }
+
+    private static QualifiedNameable mockClass(
+            final String simpleName, final String name, final Modifier... modifiers) {
+
+        final QualifiedNameable classElement = ElementMocks.mockClassElementWithPackage(
+                simpleName, name, "org.example");
+        when(classElement.getKind()).thenReturn(ElementKind.CLASS);
+        when(classElement.getModifiers()).thenReturn(new HashSet<>(Arrays.asList(modifiers)));
+        return classElement;
+    }
+
+    private static QualifiedNameable mockNestedClass(
+            final QualifiedNameable outer, final String simpleName, final Modifier... modifiers) {
+
+        final QualifiedNameable nested = ElementMocks.mockQualifiedNameable(
+                outer.getQualifiedName().toString() + "." + simpleName);
+        when(nested.getKind()).thenReturn(ElementKind.CLASS);
+        when(nested.getSimpleName().toString()).thenReturn(simpleName);
+        when(nested.getEnclosingElement()).thenReturn(outer);
+        when(nested.getModifiers()).thenReturn(new HashSet<>(Arrays.asList(modifiers)));
+        return nested;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.type.TypeKind;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.processor.ElementMocks.mockDeclaredType;
+import static org.instancio.processor.ElementMocks.mockFieldWithType;
+import static org.instancio.processor.ElementMocks.mockNoArgConstructorWithModifiers;
+import static org.instancio.processor.ElementMocks.mockPrimitiveType;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+class PopulatorSourceGeneratorTest {
+
+    private final PopulatorSourceGenerator sourceGenerator = new PopulatorSourceGenerator();
+
+    @Test
+    void getSource() {
+        final QualifiedNameable classElement = ElementMocks.mockClassElementWithPackage(
+                "SomeClass",
+                "org.example.SomeClass",
+                "org.example");
+        when(classElement.getKind()).thenReturn(ElementKind.CLASS);
+
+        final List<Element> elements = Arrays.asList(
+                mockNoArgConstructorWithModifiers(),
+                mockFieldWithType("fieldOne", mockDeclaredType("java.lang.String")),
+                mockFieldWithType("fieldTwo", mockPrimitiveType(TypeKind.LONG)));
+
+        doReturn(elements).when(classElement).getEnclosedElements();
+
+        final String source = sourceGenerator.getSource(new PopulatorClass(classElement));
+
+        assertThat(source).containsSubsequence(
+                "package org.example;",
+                "import org.instancio.spi.FieldWriter;",
+                "import org.instancio.spi.Populator;",
+                "public final class SomeClass_InstancioPopulator implements Populator {",
+                "return new org.example.SomeClass();",
+                "switch ($fieldName) {",
+                "case \"fieldOne\": return ($target, $value) -> ((org.example.SomeClass) $target).fieldOne = (java.lang.String) $value;",
+                "case \"fieldTwo\": return ($target, $value) -> ((org.example.SomeClass) $target).fieldTwo = (long) $value;",
+                "default: return null;",
+                "}");
+    }
+
+    @Test
+    void getSourceForNonInstantiableClassInDefaultPackage() {
+        final QualifiedNameable classElement = ElementMocks.mockClassElementWithPackage(
+                "SomeClass",
+                "SomeClass",
+                "");
+
+        doReturn(Collections.emptyList()).when(classElement).getEnclosedElements();
+
+        final String source = sourceGenerator.getSource(new PopulatorClass(classElement));
+
+        assertThat(source.trim())
+                .doesNotContain("package")
+                .doesNotContain("case ")
+                .startsWith("import")
+                .containsSubsequence(
+                        "public final class SomeClass_InstancioPopulator implements Populator {",
+                        "return null;",
+                        "default: return null;",
+                        "}");
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.type.TypeKind;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.processor.ElementMocks.mockArrayType;
+import static org.instancio.processor.ElementMocks.mockDeclaredType;
+import static org.instancio.processor.ElementMocks.mockFieldWithType;
+import static org.instancio.processor.ElementMocks.mockPrimitiveType;
+import static org.instancio.processor.ElementMocks.mockQualifiedNameable;
+import static org.instancio.processor.ElementMocks.mockTypeElement;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+class TypeDescriptorSourceGeneratorTest {
+
+    private final TypeDescriptorSourceGenerator sourceGenerator = new TypeDescriptorSourceGenerator();
+
+    @Test
+    void getSource() {
+        final QualifiedNameable classElement = ElementMocks.mockClassElementWithPackage(
+                "SomeClass",
+                "org.example.SomeClass",
+                "org.example");
+        when(classElement.getKind()).thenReturn(ElementKind.CLASS);
+
+        final List<Element> elements = Arrays.asList(
+                mockFieldWithType("fieldOne", mockDeclaredType("java.lang.String")),
+                mockFieldWithType("fieldTwo", mockPrimitiveType(TypeKind.LONG), Modifier.PRIVATE),
+                mockFieldWithType("fieldThree", mockArrayType(mockDeclaredType("java.lang.String")), Modifier.FINAL),
+                mockFieldWithType("staticField", mockDeclaredType("java.lang.String"), Modifier.STATIC));
+
+        doReturn(elements).when(classElement).getEnclosedElements();
+
+        final String source = sourceGenerator.getSource(new TypeDescriptorClass(classElement));
+
+        assertThat(source)
+                .doesNotContain("staticField")
+                .containsSubsequence(
+                        "package org.example;",
+                        "import java.lang.reflect.Type;",
+                        "import org.instancio.spi.TypeDescriptor;",
+                        "public final class SomeClass_InstancioTypeDescriptor implements TypeDescriptor {",
+                        "private final Type $superclass = null;",
+                        "private final Type $field0 = java.lang.String.class;",
+                        "private final Type $field1 = long.class;",
+                        "private final Type $field2 = java.lang.String[].class;",
+                        "switch ($fieldName) {",
+                        "case \"fieldOne\": return $field0;",
+                        "case \"fieldTwo\": return $field1;",
+                        "case \"fieldThree\": return $field2;",
+                        "default: return null;",
+                        "}");
+    }
+
+    @Test
+    void shouldExcludeFieldsWhoseTypeIsNotAccessibleFromTypeDescriptor() {
+        final QualifiedNameable classElement = ElementMocks.mockClassElementWithPackage(
+                "SomeClass",
+                "org.example.SomeClass",
+                "org.example");
+
+        final QualifiedNameable otherPackage = mockQualifiedNameable("org.other");
+        when(otherPackage.getKind()).thenReturn(ElementKind.PACKAGE);
+
+        doReturn(Collections.singletonList(
+                mockFieldWithType("hidden", mockDeclaredType(
+                        mockTypeElement("org.other.Hidden", otherPackage)))))
+                .when(classElement).getEnclosedElements();
+
+        final TypeDescriptorClass typeDescriptorClass = new TypeDescriptorClass(classElement);
+
+        assertThat(typeDescriptorClass.getGenericFieldTypes()).isEmpty();
+        assertThat(sourceGenerator.getSource(typeDescriptorClass)).doesNotContain("case ");
+    }
+
+    @Test
+    void getSourceForClassInDefaultPackage() {
+        final QualifiedNameable classElement = ElementMocks.mockClassElementWithPackage(
+                "SomeClass",
+                "SomeClass",
+                "");
+
+        doReturn(Collections.emptyList()).when(classElement).getEnclosedElements();
+
+        final TypeDescriptorClass typeDescriptorClass = new TypeDescriptorClass(classElement);
+
+        assertThat(typeDescriptorClass.getTypeDescriptorClassName()).isEqualTo("SomeClass_InstancioTypeDescriptor");
+        assertThat(sourceGenerator.getSource(typeDescriptorClass).trim())
+                .doesNotContain("package")
+                .startsWith("import")
+                .contains("public final class SomeClass_InstancioTypeDescriptor implements TypeDescriptor {");
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.instancio.internal.reflection;
 
+import org.instancio.exception.InstancioException;
 import org.instancio.internal.util.RecordUtils;
 import org.instancio.test.support.java16.record.AddressRecord;
 import org.instancio.test.support.java16.record.PersonRecord;
@@ -44,6 +45,46 @@ class RecordUtilsTest {
                 .hasMessage("Class '%s' is not a record!", nonRecordClass.getName());
     }
 
+    @Test
+    void instantiateRepeatedly() {
+        final PhoneRecord first = RecordUtils.instantiate(PhoneRecord.class, "foo", "bar");
+        final PhoneRecord second = RecordUtils.instantiate(PhoneRecord.class, "baz", null);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(second.countryCode()).isEqualTo("baz");
+        assertThat(second.number()).isNull();
+    }
+
+    @Test
+    void instantiateWithPrimitiveComponents() {
+        final PrimitiveRecord result = RecordUtils.instantiate(PrimitiveRecord.class, 1, 2L, true);
+
+        assertThat(result).isEqualTo(new PrimitiveRecord(1, 2L, true));
+    }
+
+    @Test
+    void instantiateShouldPropagateConstructorError() {
+        assertThatThrownBy(() -> RecordUtils.instantiate(ValidatingRecord.class, "invalid"))
+                .isExactlyInstanceOf(InstancioException.class)
+                .hasMessage("Error creating a record: %s", ValidatingRecord.class)
+                .hasRootCauseExactlyInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("expected error");
+    }
+
+    @Test
+    void instantiateShouldRethrowConstructorErrorUnwrapped() {
+        assertThatThrownBy(() -> RecordUtils.instantiate(ValidatingRecord.class, "error"))
+                .isExactlyInstanceOf(AssertionError.class)
+                .hasMessage("expected error");
+    }
+
+    @Test
+    void instantiateWithWrongNumberOfArguments() {
+        assertThatThrownBy(() -> RecordUtils.instantiate(PhoneRecord.class, "foo"))
+                .isExactlyInstanceOf(InstancioException.class)
+                .hasMessage("Error creating a record: %s", PhoneRecord.class);
+    }
+
     @Test
     void getComponentTypes() {
         assertThat(RecordUtils.getComponentTypes(PersonRecord.class))
@@ -53,4 +94,17 @@ class RecordUtilsTest {
     }
 
     private record RecordWithoutArgs() {}
+
+    private record PrimitiveRecord(int i, long l, boolean b) {}
+
+    private record ValidatingRecord(String value) {
+        ValidatingRecord {
+            if ("invalid".equals(value)) {
+                throw new IllegalArgumentException("expected error");
+            }
+            if ("error".equals(value)) {
+                throw new AssertionError("expected error");
+            }
+        }
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.other.test.java16;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.exception.UnusedSelectorException;
+import org.instancio.internal.selectors.SelectorImpl;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Phone;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+import static org.instancio.Select.fields;
+
+/**
+ * On Java 16+, selector locations are captured using a {@link StackWalker}.
+ * Verifies that the reported file and line refer to the caller's code.
+ * This class is outside the 'org.instancio' package, since frames
+ * from that package are excluded from the reported location.
+ */
+@FeatureTag({Feature.MODE, Feature.SELECTOR})
+@ExtendWith(InstancioExtension.class)
+class SelectorCallSiteTest {
+
+    private static final String NL = System.lineSeparator();
+
+    @Test
+    void shouldCaptureCallSiteOnly() {
+        final SelectorImpl selector = (SelectorImpl) all(String.class);
+
+        assertThat(selector.getStackTraceHolder().getStackTrace())
+                .singleElement()
+                .satisfies(element -> {
+                    assertThat(element.getClassName()).isEqualTo(SelectorCallSiteTest.class.getName());
+                    assertThat(element.getMethodName()).isEqualTo("shouldCaptureCallSiteOnly");
+                    assertThat(element.getFileName()).isEqualTo("SelectorCallSiteTest.java");
+                    assertThat(element.getLineNumber()).isEqualTo(52);
+                });
+    }
+
+    @Test
+    void unusedSelectorShouldReportCallSite() {
+        final InstancioApi<Phone> api = Instancio.of(Phone.class)
+                .withNullable(all(Address.class))
+                .ignore(fields().named("bogus"));
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(UnusedSelectorException.class)
+                .hasMessageContaining(" 1: all(Address)" + NL
+                        + "    at org.other.test.java16.SelectorCallSiteTest"
+                        + ".unusedSelectorShouldReportCallSite(SelectorCallSiteTest.java:67)")
+                .hasMessageContaining(" 1: fields().named(\"bogus\")" + NL
+                        + "    at org.other.test.java16.SelectorCallSiteTest"
+                        + ".unusedSelectorShouldReportCallSite(SelectorCallSiteTest.java:68)");
+    }
+
+    @Test
+    void unusedEmitItemsErrorShouldReportCallSite() {
+        final InstancioApi<List<Integer>> api = Instancio.ofList(Integer.class)
+                .size(1)
+                .generate(all(Integer.class), gen -> gen.emit().items(-1, -2, -3));
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining(" -> all(Integer)" + NL
+                        + "    at org.other.test.java16.SelectorCallSiteTest"
+                        + ".unusedEmitItemsErrorShouldReportCallSite(SelectorCallSiteTest.java:84)");
+    }
+}